@@ -0,0 +1,91 @@
+package com.github.slowlybeen.pqc.bulk;
+
+import com.github.slowlybeen.pqc.dto.BulkKeyFormat;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.BouncyCastleEngine;
+import com.github.slowlybeen.pqc.engine.JdkProviderEngine;
+import com.github.slowlybeen.pqc.engine.PqcCryptoEngine;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 오프라인 대량 키 발급 CLI (Spring 컨텍스트 없이 실행)
+ *
+ * <pre>
+ * ./gradlew bulkKeygen -Ptype=ML_KEM_768 -Pcount=100000 -Pformat=ndjson -Pout=keys.ndjson
+ * java -cp app.jar ... BulkKeyGenCli --type=ML_DSA_65 --count=1000 --format=binary --out=keys.bin
+ * </pre>
+ * --out을 생략하거나 '-'이면 표준 출력으로 기록, --threads 기본값은 CPU 코어 수
+ * --engine=jdk 이면 JDK 내장 ML-KEM/ML-DSA 사용 (JDK 24+ 필요, 기본값 bc)
+ */
+public final class BulkKeyGenCli {
+
+    private BulkKeyGenCli() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+
+        PqcType type = PqcType.valueOf(options.getOrDefault("type", PqcType.ML_KEM_768.name()).toUpperCase(Locale.ROOT));
+        long count = Long.parseLong(options.getOrDefault("count", "1000"));
+        BulkKeyFormat format = BulkKeyFormat.valueOf(options.getOrDefault("format", "ndjson").toUpperCase(Locale.ROOT));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        String out = options.getOrDefault("out", "-");
+        PqcCryptoEngine engine = createEngine(options.getOrDefault("engine", BouncyCastleEngine.NAME));
+
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try (OutputStream stream = "-".equals(out)
+                ? new BufferedOutputStream(System.out)
+                : Files.newOutputStream(Path.of(out))) {
+            new BulkKeyGenerator(executor, threads, engine).generate(type, count, new BulkKeyWriter(format, stream));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!"-".equals(out)) {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.err.printf("Generated %d %s key pairs -> %s (%s) in %d ms%n", count, type, out, format, millis);
+        }
+    }
+
+    private static PqcCryptoEngine createEngine(String name) {
+        if (BouncyCastleEngine.NAME.equalsIgnoreCase(name)) {
+            return new BouncyCastleEngine();
+        }
+        if (JdkProviderEngine.NAME.equalsIgnoreCase(name)) {
+            JdkProviderEngine engine = new JdkProviderEngine();
+            if (!engine.isAvailable()) {
+                throw new IllegalStateException("JDK engine is not available: " + engine.getUnavailableReason());
+            }
+            return engine;
+        }
+        throw new IllegalArgumentException("Unknown engine: " + name + " (expected bc or jdk)");
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg + " (expected --key=value)");
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.slowlybeen.pqc.bulk;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import com.github.slowlybeen.pqc.engine.PqcCryptoEngine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대량 키 생성 파이프라인 (Spring 비의존 - API와 오프라인 CLI 공용)
+ * - parallelism개의 생성 작업이 유한 큐에 키 쌍을 넣고, 호출 스레드가 꺼내어 순서대로 기록
+ * - 큐 용량이 작아 출력이 느리면 생성도 멈춤 (backpressure) -> N과 무관하게 메모리 일정
+ * - 출력 실패(클라이언트 연결 종료 등) 시 생성 작업도 즉시 중단
+ * - generate()는 생성 작업이 모두 종료된 뒤에 반환 -> 호출자가 풀 자원을 반납해도 이전 작업과 겹치지 않음
+ */
+@Slf4j
+public class BulkKeyGenerator {
+
+    private static final int QUEUE_PER_WORKER = 4;
+    private static final int FLUSH_EVERY = 256;
+    private static final long POLL_MILLIS = 100;
+    private static final long PRODUCER_EXIT_TIMEOUT_SECONDS = 10;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final PqcCryptoEngine engine;
+
+    public BulkKeyGenerator(Executor executor, int parallelism, PqcCryptoEngine engine) {
+        this.executor = executor;
+        this.parallelism = Math.max(parallelism, 1);
+        this.engine = engine;
+    }
+
+    public void generate(PqcType type, long count, BulkKeyWriter writer) throws IOException {
+        BlockingQueue<GeneratedKeyPair> queue = new ArrayBlockingQueue<>(parallelism * QUEUE_PER_WORKER);
+        AtomicLong remaining = new AtomicLong(count);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Job job = new Job(engine, type, queue, remaining, failure);
+        CountDownLatch producers = new CountDownLatch(parallelism);
+
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            job.produce();
+                        } finally {
+                            producers.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    for (int j = i; j < parallelism; j++) {
+                        producers.countDown(); // 제출하지 못한 작업 몫
+                    }
+                    throw e;
+                }
+            }
+
+            writer.writeHeader(type, count);
+            for (long index = 0; index < count; ) {
+                GeneratedKeyPair keyPair = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (keyPair == null) {
+                    if (failure.get() != null) {
+                        throw new IllegalStateException("Bulk key generation failed", failure.get());
+                    }
+                    writer.flush(); // 생성이 출력보다 느린 구간에는 쌓인 만큼 바로 내보냄
+                    continue;
+                }
+                writer.write(index++, keyPair);
+                if (index % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk key generation interrupted", e);
+        } finally {
+            job.cancelled = true;
+            queue.clear();
+            awaitProducers(producers);
+        }
+    }
+
+    /**
+     * 취소된 생성 작업이 풀에서 빠져나올 때까지 대기 (키 1개 생성 + offer 폴링 주기 이내)
+     * - 인터럽트되어도 대기는 계속하고 인터럽트 상태만 복원
+     */
+    private static void awaitProducers(CountDownLatch producers) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (!producers.await(PRODUCER_EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        log.warn("[BulkKeyGen] 생성 작업 종료 대기 시간 초과 - 남은 작업: {}", producers.getCount());
+                    }
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Job {
+        final PqcCryptoEngine engine;
+        final PqcType type;
+        final BlockingQueue<GeneratedKeyPair> queue;
+        final AtomicLong remaining;
+        final AtomicReference<Throwable> failure;
+        volatile boolean cancelled;
+
+        Job(PqcCryptoEngine engine, PqcType type, BlockingQueue<GeneratedKeyPair> queue,
+            AtomicLong remaining, AtomicReference<Throwable> failure) {
+            this.engine = engine;
+            this.type = type;
+            this.queue = queue;
+            this.remaining = remaining;
+            this.failure = failure;
+        }
+
+        void produce() {
+            try {
+                while (!cancelled && remaining.getAndDecrement() > 0) {
+                    GeneratedKeyPair keyPair = engine.generateKeyPair(type);
+                    while (!queue.offer(keyPair, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        if (cancelled) return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+                log.error("[BulkKeyGen] 키 생성 실패", t);
+            }
+        }
+    }
+}
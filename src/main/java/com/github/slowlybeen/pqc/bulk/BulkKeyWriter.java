@@ -0,0 +1,73 @@
+package com.github.slowlybeen.pqc.bulk;
+
+import com.github.slowlybeen.pqc.dto.BulkKeyFormat;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import org.bouncycastle.util.encoders.Base64;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대량 발급 키 쌍 직렬화
+ *
+ * <pre>
+ * NDJSON : {"index":0,"type":"ML_KEM_768","publicKey":"...","privateKey":"..."}\n  (레코드당 한 줄)
+ * BINARY : magic "PQKB"(4) | version(1) | type(1: ML_KEM_768, 2: ML_DSA_65) | count(8)
+ *          이후 레코드마다 publicKeyLen(4) | publicKey | privateKeyLen(4) | privateKey
+ * </pre>
+ * 모든 정수는 Big-Endian
+ */
+public class BulkKeyWriter {
+
+    private static final byte[] MAGIC = "PQKB".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+
+    private final BulkKeyFormat format;
+    private final DataOutputStream out;
+
+    public BulkKeyWriter(BulkKeyFormat format, OutputStream out) {
+        this.format = format;
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+    }
+
+    public void writeHeader(PqcType type, long count) throws IOException {
+        if (format == BulkKeyFormat.BINARY) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(typeCode(type));
+            out.writeLong(count);
+        }
+    }
+
+    public void write(long index, GeneratedKeyPair keyPair) throws IOException {
+        if (format == BulkKeyFormat.BINARY) {
+            out.writeInt(keyPair.getPublicKey().length);
+            out.write(keyPair.getPublicKey());
+            out.writeInt(keyPair.getPrivateKey().length);
+            out.write(keyPair.getPrivateKey());
+        } else {
+            // Base64와 enum 이름에는 JSON 이스케이프 대상 문자가 없으므로 직접 조립
+            String line = "{\"index\":" + index
+                    + ",\"type\":\"" + keyPair.getType().name()
+                    + "\",\"publicKey\":\"" + Base64.toBase64String(keyPair.getPublicKey())
+                    + "\",\"privateKey\":\"" + Base64.toBase64String(keyPair.getPrivateKey())
+                    + "\"}\n";
+            out.write(line.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private static int typeCode(PqcType type) {
+        return switch (type) {
+            case ML_KEM_768 -> 1;
+            case ML_DSA_65 -> 2;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.slowlybeen.pqc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pqc.engine")
+public class EngineProperties {
+    private String selection = "auto";                        // bc | jdk | auto (연산별 지정이 없을 때 기본값)
+    private Map<String, String> operations = new LinkedHashMap<>(); // 연산별 지정 (keygen, encapsulate, decapsulate, sign, verify)
+    private int benchmarkIterations = 100;                    // auto 선택 시 엔진/연산별 측정 반복 횟수 (같은 횟수만큼 사전 워밍업)
+    private String jdkProvider = "";                          // JDK 엔진이 사용할 JCA 프로바이더 이름 (공백이면 자동 탐색)
+}
@@ -0,0 +1,18 @@
+package com.github.slowlybeen.pqc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pqc.jfr")
+public class JfrProperties {
+    private String settings = "default";                  // JDK 내장 설정 (default: 저오버헤드, profile: 상세)
+    private Duration maxAge = Duration.ofMinutes(10);      // 링 버퍼 보존 기간 상한
+    private DataSize maxSize = DataSize.ofMegabytes(64);   // 링 버퍼 크기 상한
+    private Duration maxDuration = Duration.ofMinutes(30); // 시작 후 자동 중지
+}
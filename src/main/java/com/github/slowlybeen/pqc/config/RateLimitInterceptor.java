@@ -1,5 +1,6 @@
 package com.github.slowlybeen.pqc.config;
 
+import com.github.slowlybeen.pqc.jfr.RateLimitRejectedEvent;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +29,7 @@ public class RateLimitInterceptor implements HandlerInterceptor {
             return true;
         } else {
             log.warn("[DoS Protection] Too many requests from IP: {}", clientIp);
+            new RateLimitRejectedEvent(clientIp, request.getRequestURI()).commit();
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.getWriter().write("Too many PQC requests. Please try again later.");
             return false;
@@ -0,0 +1,30 @@
+package com.github.slowlybeen.pqc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pqc.scheduler")
+public class SchedulerProperties {
+    private boolean enabled = true;
+    private int workers = 0;                          // 0이면 CPU 코어 수
+    private int maxQueueDepth = 1000;                 // 전체 대기 작업 상한 (초과 시 503)
+    private Duration maxWait = Duration.ofSeconds(5); // 이보다 오래 대기한 작업은 실행하지 않고 거절
+    private String defaultClass = "standard";         // operations에 없는 연산이 속할 클래스
+    private Map<String, PriorityClass> classes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class PriorityClass {
+        private int weight = 1;                       // 클래스 간 CPU 시간 배분 비율
+        private List<String> operations = new ArrayList<>();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.slowlybeen.pqc.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pqc.warmup")
+public class WarmupProperties {
+    private boolean enabled = true;
+    private int iterationsPerRound = 200;   // 한 라운드당 연산별 반복 횟수
+    private int maxRounds = 50;             // 안정화되지 않아도 이 라운드 수에 도달하면 종료
+    private double tolerance = 0.10;        // 직전 라운드 대비 평균 지연 변화율 허용치 (10%)
+    private int stableRounds = 3;           // 연속으로 허용치 이내여야 하는 라운드 수
+    private Duration maxDuration = Duration.ofSeconds(60);
+}
@@ -1,14 +1,24 @@
 package com.github.slowlybeen.pqc.controller;
 
 import com.github.slowlybeen.pqc.dto.*;
+import com.github.slowlybeen.pqc.service.BulkKeyService;
+import com.github.slowlybeen.pqc.service.HybridEncryptionService;
 import com.github.slowlybeen.pqc.service.PqcCryptoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.bouncycastle.crypto.CryptoException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.util.encoders.Base64;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.security.GeneralSecurityException;
 import java.util.Map;
 
 /**
@@ -21,6 +31,8 @@ import java.util.Map;
 public class PqcController {
 
     private final PqcCryptoService pqcService;
+    private final HybridEncryptionService hybridService;
+    private final BulkKeyService bulkKeyService;
 
     // --- 1. Key Generation ---
 
@@ -33,6 +45,18 @@ public class PqcController {
         return ResponseEntity.ok(pqcService.generateKeys(request.getType()));
     }
 
+    /**
+     * 대량 키 쌍 발급 (NDJSON 또는 길이 접두 바이너리로 스트리밍)
+     * - KeyPool을 거치지 않고 전용 스레드 풀에서 병렬 생성
+     */
+    @PostMapping("/keys/bulk")
+    public ResponseEntity<StreamingResponseBody> generateKeysBulk(@RequestBody @Valid BulkKeyGenRequest request) {
+        log.info("[BulkKeyGen] Type: {}, count: {}, format: {}", request.getType(), request.getCount(), request.getFormat());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(request.getFormat().getContentType()))
+                .body(bulkKeyService.stream(request.getType(), request.getCount(), request.getFormat()));
+    }
+
     // --- 2. Key Exchange (ML-KEM) ---
 
     /**
@@ -48,19 +72,35 @@ public class PqcController {
         return ResponseEntity.ok(pqcService.kemEncapsulate(pubKey));
     }
 
+    /**
+     * 다중 수신자 KEM Encapsulation (공개키 목록 -> 수신자별 암호문)
+     */
+    @PostMapping("/kem/encapsulate/batch")
+    public ResponseEntity<?> encapsulateBatch(@RequestBody @Valid KemBatchEncapsulateRequest request) {
+        log.info("[EncapBatch] recipients: {}, wrapContentKey: {}", request.getPublicKeys().size(), request.isWrapContentKey());
+        return ResponseEntity.ok(pqcService.kemEncapsulateBatch(request.getPublicKeys(), request.isWrapContentKey()));
+    }
+
     /**
      * KEM Decapsulation (개인키 + 암호문 -> 공유키 복원)
+     * - wrappedKey가 함께 오면 일괄 캡슐화에서 래핑된 콘텐츠 키까지 복원
+     * @throws CryptoException 콘텐츠 키 언래핑 실패 시 GlobalHandler 처리
      */
     @PostMapping("/kem/decapsulate")
-    public ResponseEntity<?> decapsulate(@RequestBody Map<String, String> payload) {
+    public ResponseEntity<?> decapsulate(@RequestBody Map<String, String> payload) throws CryptoException {
         String privKey = payload.get("privateKey");
         String ciphertext = payload.get("ciphertext");
+        String wrappedKey = payload.get("wrappedKey");
 
         if(privKey == null || ciphertext == null) {
             throw new IllegalArgumentException("privateKey or ciphertext missing");
         }
 
         String sharedSecret = pqcService.kemDecapsulate(privKey, ciphertext);
+        if (wrappedKey != null && !wrappedKey.isBlank()) {
+            String contentKey = pqcService.unwrapContentKey(sharedSecret, wrappedKey);
+            return ResponseEntity.ok(Map.of("sharedSecret", sharedSecret, "contentKey", contentKey));
+        }
         return ResponseEntity.ok(Map.of("sharedSecret", sharedSecret));
     }
 
@@ -93,4 +133,70 @@ public class PqcController {
         );
         return ResponseEntity.ok(Map.of("valid", isValid));
     }
+
+    /**
+     * Merkle Tree 배치 서명 (루트에만 ML-DSA 서명 1회 + 메시지별 포함 증명)
+     */
+    @PostMapping("/dsa/sign/batch")
+    public ResponseEntity<?> signBatch(@RequestBody @Valid BatchSignRequest request) {
+        // 보안: 개인키 및 메시지 본문 로깅 금지
+        log.info("[SignBatch] 요청 수신 - messages: {}", request.getMessages().size());
+        return ResponseEntity.ok(pqcService.signBatch(request.getPrivateKeyBase64(), request.getMessages()));
+    }
+
+    /**
+     * Merkle Tree 배치 서명 검증 (포함 증명 + 루트 서명)
+     */
+    @PostMapping("/dsa/verify/batch")
+    public ResponseEntity<?> verifyBatch(@RequestBody @Valid BatchVerifyRequest request) {
+        log.info("[VerifyBatch] 요청 수신");
+
+        boolean isValid = pqcService.verifyBatch(
+                request.getPublicKey(),
+                request.getMessage(),
+                request.getIndex(),
+                request.getTreeSize(),
+                request.getProof(),
+                request.getSignature()
+        );
+        return ResponseEntity.ok(Map.of("valid", isValid));
+    }
+
+    // --- 4. Hybrid Encryption (ML-KEM-768 + AEAD, Streaming) ---
+
+    /**
+     * 스트리밍 하이브리드 암호화 (요청 본문 평문 -> 응답 본문 청크 암호문)
+     * - 공개키는 X-PQC-Public-Key 헤더(Base64), 본문은 application/octet-stream 그대로 전송
+     */
+    @PostMapping(value = "/hybrid/encrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void hybridEncrypt(@RequestHeader("X-PQC-Public-Key") String publicKey,
+                              @RequestParam(defaultValue = "AES_256_GCM") AeadAlgorithm aead,
+                              @RequestParam(defaultValue = "" + HybridEncryptionService.DEFAULT_CHUNK_SIZE) int chunkSize,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException, GeneralSecurityException {
+        log.info("[HybridEncrypt] 요청 수신 - aead: {}, chunkSize: {}", aead, chunkSize);
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        hybridService.encrypt(Base64.decode(publicKey.replaceAll("\\s+", "")), aead, chunkSize,
+                Channels.newChannel(request.getInputStream()),
+                Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * 스트리밍 하이브리드 복호화 (요청 본문 청크 암호문 -> 응답 본문 평문)
+     * - 개인키는 X-PQC-Private-Key 헤더(Base64)
+     * - 청크 인증 실패 시 응답 스트림이 중단되므로, 클라이언트는 정상 종료된 응답만 신뢰해야 함
+     */
+    @PostMapping(value = "/hybrid/decrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void hybridDecrypt(@RequestHeader("X-PQC-Private-Key") String privateKey,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException, GeneralSecurityException {
+        // 보안: 개인키 로깅 금지
+        log.info("[HybridDecrypt] 요청 수신");
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        hybridService.decrypt(Base64.decode(privateKey.replaceAll("\\s+", "")),
+                Channels.newChannel(request.getInputStream()),
+                Channels.newChannel(response.getOutputStream()));
+    }
 }
\ No newline at end of file
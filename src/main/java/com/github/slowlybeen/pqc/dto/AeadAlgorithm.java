@@ -0,0 +1,21 @@
+package com.github.slowlybeen.pqc.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AeadAlgorithm {
+    AES_256_GCM((byte) 1, "AES/GCM/NoPadding"),            // AES-NI 지원 환경에서 가장 빠름
+    CHACHA20_POLY1305((byte) 2, "ChaCha20-Poly1305");      // AES 하드웨어 가속이 없는 환경용
+
+    private final byte id;              // 암호문 헤더에 기록되는 식별자
+    private final String transformation; // JCA Cipher 이름
+
+    public static AeadAlgorithm fromId(byte id) {
+        for (AeadAlgorithm algorithm : values()) {
+            if (algorithm.id == id) return algorithm;
+        }
+        throw new IllegalArgumentException("Unsupported AEAD id: " + id);
+    }
+}
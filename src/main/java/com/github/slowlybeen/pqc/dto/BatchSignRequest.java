@@ -0,0 +1,23 @@
+package com.github.slowlybeen.pqc.dto;
+
+import com.github.slowlybeen.pqc.dto.validation.Base64String;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchSignRequest {
+    public static final int MAX_MESSAGES = 10000;
+
+    @NotBlank
+    @Base64String(message = "Private key must be Base64")
+    private String privateKeyBase64;
+
+    @NotEmpty(message = "Messages to sign are required")
+    @Size(max = MAX_MESSAGES, message = "Too many messages (max " + MAX_MESSAGES + ")")
+    private List<@NotNull String> messages;
+}
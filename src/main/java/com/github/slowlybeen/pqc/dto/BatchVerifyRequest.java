@@ -0,0 +1,35 @@
+package com.github.slowlybeen.pqc.dto;
+
+import com.github.slowlybeen.pqc.dto.validation.Base64String;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchVerifyRequest {
+    @NotBlank
+    @Base64String(message = "Public key must be Base64")
+    private String publicKey;
+
+    @NotNull(message = "Message is required")
+    private String message;
+
+    @NotNull
+    @PositiveOrZero
+    private Integer index;
+
+    @NotNull
+    @Positive
+    private Integer treeSize;
+
+    @NotNull(message = "Inclusion proof is required")
+    private List<@NotBlank @Base64String(message = "Proof entries must be Base64") String> proof;
+
+    @NotBlank
+    @Base64String(message = "Signature must be Base64")
+    private String signature;
+}
@@ -0,0 +1,13 @@
+package com.github.slowlybeen.pqc.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BulkKeyFormat {
+    NDJSON("application/x-ndjson"),       // 한 줄에 키 쌍 하나 (Base64)
+    BINARY("application/octet-stream");   // 길이 접두 바이너리 (BulkKeyWriter 참고)
+
+    private final String contentType;
+}
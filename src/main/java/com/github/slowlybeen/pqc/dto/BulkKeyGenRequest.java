@@ -0,0 +1,17 @@
+package com.github.slowlybeen.pqc.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class BulkKeyGenRequest {
+    @NotNull(message = "Algorithm type is mandatory")
+    private PqcType type;
+
+    @NotNull(message = "Key count is mandatory")
+    @Positive(message = "Key count must be positive")
+    private Long count;
+
+    private BulkKeyFormat format = BulkKeyFormat.NDJSON;
+}
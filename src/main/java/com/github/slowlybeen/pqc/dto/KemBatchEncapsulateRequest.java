@@ -0,0 +1,21 @@
+package com.github.slowlybeen.pqc.dto;
+
+import com.github.slowlybeen.pqc.dto.validation.Base64String;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class KemBatchEncapsulateRequest {
+    public static final int MAX_RECIPIENTS = 1000;
+
+    @NotEmpty(message = "publicKeys is required")
+    @Size(max = MAX_RECIPIENTS, message = "Too many recipients (max " + MAX_RECIPIENTS + ")")
+    private List<@NotBlank @Base64String(message = "Public key must be Base64") String> publicKeys;
+
+    // true면 수신자별 공유키로 하나의 콘텐츠 키(AES-256)를 래핑하여 반환
+    private boolean wrapContentKey;
+}
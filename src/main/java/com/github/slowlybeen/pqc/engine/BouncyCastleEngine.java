@@ -0,0 +1,83 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import org.bouncycastle.crypto.CryptoException;
+import org.bouncycastle.crypto.SecretWithEncapsulation;
+import org.bouncycastle.crypto.params.ParametersWithRandom;
+import org.bouncycastle.pqc.crypto.mldsa.*;
+import org.bouncycastle.pqc.crypto.mlkem.*;
+
+import java.security.SecureRandom;
+
+/**
+ * Bouncy Castle 경량 API 엔진 (기본값, 모든 JDK에서 사용 가능)
+ * - Spring 비의존 -> 오프라인 CLI / 테스트에서도 직접 생성
+ * - SecureRandom은 스레드별 인스턴스 사용 (병렬 키 생성 시 경합 방지)
+ */
+public class BouncyCastleEngine implements PqcCryptoEngine {
+
+    public static final String NAME = "bc";
+
+    private final ThreadLocal<SecureRandom> secureRandom = ThreadLocal.withInitial(SecureRandom::new);
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public GeneratedKeyPair generateKeyPair(PqcType type) {
+        if (type == PqcType.ML_KEM_768) {
+            MLKEMKeyPairGenerator gen = new MLKEMKeyPairGenerator();
+            gen.init(new MLKEMKeyGenerationParameters(secureRandom.get(), MLKEMParameters.ml_kem_768));
+            var kp = gen.generateKeyPair();
+            return new GeneratedKeyPair(type,
+                    ((MLKEMPublicKeyParameters) kp.getPublic()).getEncoded(),
+                    ((MLKEMPrivateKeyParameters) kp.getPrivate()).getEncoded());
+        } else if (type == PqcType.ML_DSA_65) {
+            MLDSAKeyPairGenerator gen = new MLDSAKeyPairGenerator();
+            gen.init(new MLDSAKeyGenerationParameters(secureRandom.get(), MLDSAParameters.ml_dsa_65));
+            var kp = gen.generateKeyPair();
+            return new GeneratedKeyPair(type,
+                    ((MLDSAPublicKeyParameters) kp.getPublic()).getEncoded(),
+                    ((MLDSAPrivateKeyParameters) kp.getPrivate()).getEncoded());
+        }
+        throw new IllegalArgumentException("Unsupported PQC Type: " + type);
+    }
+
+    @Override
+    public KemEncapsulation encapsulate(byte[] publicKey) {
+        MLKEMPublicKeyParameters params = new MLKEMPublicKeyParameters(MLKEMParameters.ml_kem_768, publicKey);
+        SecretWithEncapsulation sec = new MLKEMGenerator(secureRandom.get()).generateEncapsulated(params);
+        return new KemEncapsulation(sec.getSecret(), sec.getEncapsulation());
+    }
+
+    @Override
+    public byte[] decapsulate(byte[] privateKey, byte[] encapsulation) {
+        MLKEMPrivateKeyParameters params = new MLKEMPrivateKeyParameters(MLKEMParameters.ml_kem_768, privateKey);
+        return new MLKEMExtractor(params).extractSecret(encapsulation);
+    }
+
+    @Override
+    public byte[] sign(byte[] privateKey, byte[] message) throws CryptoException {
+        MLDSAPrivateKeyParameters privParams = new MLDSAPrivateKeyParameters(MLDSAParameters.ml_dsa_65, privateKey);
+        MLDSASigner signer = new MLDSASigner();
+        signer.init(true, new ParametersWithRandom(privParams, secureRandom.get()));
+        signer.update(message, 0, message.length);
+        return signer.generateSignature();
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+        MLDSAPublicKeyParameters pubParams = new MLDSAPublicKeyParameters(MLDSAParameters.ml_dsa_65, publicKey);
+        MLDSASigner verifier = new MLDSASigner();
+        verifier.init(false, pubParams);
+        verifier.update(message, 0, message.length);
+        return verifier.verifySignature(signature);
+    }
+}
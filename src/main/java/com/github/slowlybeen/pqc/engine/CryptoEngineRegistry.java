@@ -0,0 +1,190 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.config.EngineProperties;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.exception.CryptoEngineException;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.crypto.CryptoException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 연산별 암호 엔진 선택
+ * - pqc.engine.selection(기본값) / pqc.engine.operations.<연산>(개별 지정): bc | jdk | auto
+ * - auto: 사용 가능한 엔진이 둘 이상이면 기동 시 마이크로 벤치마크로 연산별 더 빠른 엔진 선택
+ * - JDK 엔진은 BC와 교차 검증(상호운용)을 통과해야 후보가 됨 -> 연산마다 엔진이 달라도 키/암호문/서명 호환
+ * - 요청한 엔진을 쓸 수 없으면 경고 후 bc로 대체
+ */
+@Slf4j
+@Component
+public class CryptoEngineRegistry {
+
+    public static final String AUTO = "auto";
+    private static final byte[] TEST_MESSAGE = "pqc-engine-benchmark-message".repeat(32).getBytes(StandardCharsets.US_ASCII);
+
+    private final EngineProperties properties;
+    private final Map<String, PqcCryptoEngine> engines = new LinkedHashMap<>();
+    private final Map<CryptoOperation, PqcCryptoEngine> selected = new EnumMap<>(CryptoOperation.class);
+    private BenchmarkFixture fixture;
+
+    public CryptoEngineRegistry(EngineProperties properties) {
+        this.properties = properties;
+
+        BouncyCastleEngine bc = new BouncyCastleEngine();
+        engines.put(bc.name(), bc);
+
+        JdkProviderEngine jdk = new JdkProviderEngine(properties.getJdkProvider());
+        if (!jdk.isAvailable()) {
+            log.info("[Engine] JDK 엔진 사용 불가 - {}", jdk.getUnavailableReason());
+        } else if (!interoperable(bc, jdk)) {
+            log.warn("[Engine] JDK 엔진이 BC와 상호운용 검증에 실패하여 제외");
+        } else {
+            engines.put(jdk.name(), jdk);
+        }
+
+        properties.getOperations().keySet().stream()
+                .filter(key -> Arrays.stream(CryptoOperation.values()).noneMatch(op -> op.key().equals(key)))
+                .forEach(key -> log.warn("[Engine] 알 수 없는 연산 설정 무시 - pqc.engine.operations.{}", key));
+
+        for (CryptoOperation operation : CryptoOperation.values()) {
+            selected.put(operation, select(operation));
+        }
+        fixture = null; // 벤치마크 입력은 기동 시에만 사용
+        log.info("[Engine] 선택 완료 - 사용 가능: {}, 연산별: {}", engines.keySet(), getSelection());
+    }
+
+    public PqcCryptoEngine engineFor(CryptoOperation operation) {
+        return selected.get(operation);
+    }
+
+    /**
+     * 연산별 선택된 엔진 이름 (모니터링용)
+     */
+    public Map<String, String> getSelection() {
+        Map<String, String> selection = new LinkedHashMap<>();
+        selected.forEach((operation, engine) -> selection.put(operation.key(), engine.name()));
+        return selection;
+    }
+
+    private PqcCryptoEngine select(CryptoOperation operation) {
+        String requested = properties.getOperations()
+                .getOrDefault(operation.key(), properties.getSelection())
+                .trim().toLowerCase(Locale.ROOT);
+
+        if (AUTO.equals(requested)) {
+            return engines.size() == 1 ? engines.get(BouncyCastleEngine.NAME) : fastest(operation);
+        }
+        PqcCryptoEngine engine = engines.get(requested);
+        if (engine == null) {
+            log.warn("[Engine] '{}' 엔진 사용 불가 - {} 연산은 bc로 대체", requested, operation.key());
+            return engines.get(BouncyCastleEngine.NAME);
+        }
+        return engine;
+    }
+
+    private PqcCryptoEngine fastest(CryptoOperation operation) {
+        if (fixture == null) {
+            fixture = new BenchmarkFixture(engines.get(BouncyCastleEngine.NAME));
+        }
+
+        Map<String, Double> meanMicros = new LinkedHashMap<>();
+        PqcCryptoEngine best = null;
+        double bestNanos = Double.MAX_VALUE;
+        for (PqcCryptoEngine engine : engines.values()) {
+            double nanos = benchmark(engine, operation);
+            meanMicros.put(engine.name(), Math.round(nanos / 100.0) / 10.0);
+            if (nanos < bestNanos) {
+                bestNanos = nanos;
+                best = engine;
+            }
+        }
+        log.info("[Engine] 벤치마크 {} - 평균(us): {} -> {}", operation.key(), meanMicros, best.name());
+        return best;
+    }
+
+    /**
+     * 연산 1회 평균 실행 시간(ns)
+     * - 같은 횟수만큼 먼저 실행하여 인터프리터 구간을 최대한 제외 (엔진 간 조건 동일)
+     */
+    private double benchmark(PqcCryptoEngine engine, CryptoOperation operation) {
+        int iterations = Math.max(properties.getBenchmarkIterations(), 1);
+        for (int i = 0; i < iterations; i++) {
+            runOnce(engine, operation);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            runOnce(engine, operation);
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    private void runOnce(PqcCryptoEngine engine, CryptoOperation operation) {
+        try {
+            switch (operation) {
+                case KEYGEN -> {
+                    engine.generateKeyPair(PqcType.ML_KEM_768);
+                    engine.generateKeyPair(PqcType.ML_DSA_65);
+                }
+                case ENCAPSULATE -> engine.encapsulate(fixture.kem.getPublicKey());
+                case DECAPSULATE -> engine.decapsulate(fixture.kem.getPrivateKey(), fixture.ciphertext);
+                case SIGN -> engine.sign(fixture.dsa.getPrivateKey(), TEST_MESSAGE);
+                case VERIFY -> engine.verify(fixture.dsa.getPublicKey(), TEST_MESSAGE, fixture.signature);
+            }
+        } catch (CryptoException e) {
+            throw new CryptoEngineException("Engine benchmark failed: " + engine.name(), e);
+        }
+    }
+
+    private static boolean interoperable(PqcCryptoEngine a, PqcCryptoEngine b) {
+        try {
+            return crossCheck(a, b) && crossCheck(b, a);
+        } catch (Exception e) {
+            log.warn("[Engine] 상호운용 검증 오류 - {} <-> {}", a.name(), b.name(), e);
+            return false;
+        }
+    }
+
+    /**
+     * owner 엔진이 만든 키를 peer 엔진과 번갈아 사용하여 캡슐화/서명 결과가 서로 일치하는지 확인
+     */
+    private static boolean crossCheck(PqcCryptoEngine owner, PqcCryptoEngine peer) throws CryptoException {
+        GeneratedKeyPair kem = owner.generateKeyPair(PqcType.ML_KEM_768);
+        KemEncapsulation toOwner = peer.encapsulate(kem.getPublicKey());
+        KemEncapsulation toPeer = owner.encapsulate(kem.getPublicKey());
+        if (!Arrays.equals(toOwner.getSecret(), owner.decapsulate(kem.getPrivateKey(), toOwner.getEncapsulation()))
+                || !Arrays.equals(toPeer.getSecret(), peer.decapsulate(kem.getPrivateKey(), toPeer.getEncapsulation()))) {
+            return false;
+        }
+
+        GeneratedKeyPair dsa = owner.generateKeyPair(PqcType.ML_DSA_65);
+        return peer.verify(dsa.getPublicKey(), TEST_MESSAGE, owner.sign(dsa.getPrivateKey(), TEST_MESSAGE))
+                && owner.verify(dsa.getPublicKey(), TEST_MESSAGE, peer.sign(dsa.getPrivateKey(), TEST_MESSAGE));
+    }
+
+    /**
+     * 벤치마크 공통 입력 (BC로 생성 - 상호운용 검증을 통과한 엔진이라면 모두 처리 가능)
+     */
+    private static final class BenchmarkFixture {
+        final GeneratedKeyPair kem;
+        final GeneratedKeyPair dsa;
+        final byte[] ciphertext;
+        final byte[] signature;
+
+        BenchmarkFixture(PqcCryptoEngine engine) {
+            this.kem = engine.generateKeyPair(PqcType.ML_KEM_768);
+            this.dsa = engine.generateKeyPair(PqcType.ML_DSA_65);
+            this.ciphertext = engine.encapsulate(kem.getPublicKey()).getEncapsulation();
+            try {
+                this.signature = engine.sign(dsa.getPrivateKey(), TEST_MESSAGE);
+            } catch (CryptoException e) {
+                throw new CryptoEngineException("Failed to prepare engine benchmark", e);
+            }
+        }
+    }
+}
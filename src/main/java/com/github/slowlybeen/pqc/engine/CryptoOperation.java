@@ -0,0 +1,14 @@
+package com.github.slowlybeen.pqc.engine;
+
+import java.util.Locale;
+
+/**
+ * 엔진 선택 단위 (pqc.engine.operations 의 키)
+ */
+public enum CryptoOperation {
+    KEYGEN, ENCAPSULATE, DECAPSULATE, SIGN, VERIFY;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
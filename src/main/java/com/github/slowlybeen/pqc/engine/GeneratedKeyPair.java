@@ -0,0 +1,24 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import lombok.Value;
+import org.bouncycastle.util.encoders.Base64;
+
+import java.util.Map;
+
+@Value
+public class GeneratedKeyPair {
+    PqcType type;
+    byte[] publicKey;
+    byte[] privateKey;
+
+    /**
+     * API 응답 형식 (publicKey / privateKey Base64)
+     */
+    public Map<String, String> toBase64Map() {
+        return Map.of(
+                "publicKey", Base64.toBase64String(publicKey),
+                "privateKey", Base64.toBase64String(privateKey)
+        );
+    }
+}
@@ -0,0 +1,383 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.exception.CryptoEngineException;
+import org.bouncycastle.asn1.*;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.crypto.CryptoException;
+import org.bouncycastle.pqc.crypto.mldsa.MLDSAParameters;
+import org.bouncycastle.pqc.crypto.mldsa.MLDSAPrivateKeyParameters;
+import org.bouncycastle.pqc.crypto.mlkem.MLKEMParameters;
+import org.bouncycastle.pqc.crypto.mlkem.MLKEMPrivateKeyParameters;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDK 내장 JCA 엔진 (JDK 24+ 의 ML-KEM / ML-DSA)
+ * - 빌드 툴체인이 17이므로 javax.crypto.KEM(JDK 21+)은 MethodHandle로 바인딩 -> 없으면 사용 불가로 표시
+ * - JCA 키는 X.509 / PKCS#8 인코딩이므로 호출마다 원시 인코딩과 변환 (BC ASN.1 유틸 사용)
+ * - 생성 시 자체 점검(키 생성 -> 캡슐화/서명 왕복)에 실패하면 예외 대신 isAvailable() = false
+ * - 프로바이더가 받아들이는 PKCS#8 개인키 형식은 생성 시 계열별로 한 번만 판별 (요청 키로는 바뀌지 않음)
+ */
+public class JdkProviderEngine implements PqcCryptoEngine {
+
+    public static final String NAME = "jdk";
+
+    private static final String KEM_FAMILY = "ML-KEM";
+    private static final String KEM_ALGORITHM = "ML-KEM-768";
+    private static final String DSA_FAMILY = "ML-DSA";
+    private static final String DSA_ALGORITHM = "ML-DSA-65";
+    private static final AlgorithmIdentifier KEM_ALGORITHM_ID =
+            new AlgorithmIdentifier(new ASN1ObjectIdentifier("2.16.840.1.101.3.4.4.2"));
+    private static final AlgorithmIdentifier DSA_ALGORITHM_ID =
+            new AlgorithmIdentifier(new ASN1ObjectIdentifier("2.16.840.1.101.3.4.3.18"));
+    private static final int KEM_PRIVATE_KEY_LENGTH = 2400;
+    private static final int DSA_PRIVATE_KEY_LENGTH = 4032;
+
+    // {서비스 타입, 알고리즘} - 하나라도 없으면 사용 불가
+    private static final List<String[]> REQUIRED_SERVICES = List.of(
+            new String[]{"KeyPairGenerator", KEM_ALGORITHM},
+            new String[]{"KeyFactory", KEM_FAMILY},
+            new String[]{"KEM", KEM_FAMILY},
+            new String[]{"KeyPairGenerator", DSA_ALGORITHM},
+            new String[]{"KeyFactory", DSA_FAMILY},
+            new String[]{"Signature", DSA_FAMILY}
+    );
+
+    // BC 프로바이더는 BouncyCastleEngine이 담당하므로 제외
+    private static final List<String> EXCLUDED_PROVIDERS = List.of("BC", "BCPQC");
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<String, Provider> providers = new HashMap<>();
+    private final KemApi kemApi;
+    private final String unavailableReason;
+    private final boolean kemLegacyPkcs8;
+    private final boolean dsaLegacyPkcs8;
+
+    public JdkProviderEngine() {
+        this(null);
+    }
+
+    /**
+     * @param preferredProvider 사용할 프로바이더 이름 (null/공백이면 등록 순서대로 탐색)
+     */
+    public JdkProviderEngine(String preferredProvider) {
+        KemApi api = null;
+        boolean kemLegacy = false;
+        boolean dsaLegacy = false;
+        String reason = null;
+        try {
+            for (String[] service : REQUIRED_SERVICES) {
+                providers.put(service[0] + "." + service[1], findProvider(service[0], service[1], preferredProvider));
+            }
+            api = KemApi.bind();
+            kemLegacy = detectLegacyPkcs8(PqcType.ML_KEM_768, KEM_FAMILY, KEM_ALGORITHM, KEM_ALGORITHM_ID);
+            dsaLegacy = detectLegacyPkcs8(PqcType.ML_DSA_65, DSA_FAMILY, DSA_ALGORITHM, DSA_ALGORITHM_ID);
+        } catch (GeneralSecurityException | ReflectiveOperationException | IOException e) {
+            reason = e.toString();
+        }
+        this.kemApi = api;
+        this.kemLegacyPkcs8 = kemLegacy;
+        this.dsaLegacyPkcs8 = dsaLegacy;
+        this.unavailableReason = reason != null ? reason : selfTest();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return unavailableReason == null;
+    }
+
+    public String getUnavailableReason() {
+        return unavailableReason;
+    }
+
+    @Override
+    public GeneratedKeyPair generateKeyPair(PqcType type) {
+        String algorithm;
+        if (type == PqcType.ML_KEM_768) {
+            algorithm = KEM_ALGORITHM;
+        } else if (type == PqcType.ML_DSA_65) {
+            algorithm = DSA_ALGORITHM;
+        } else {
+            throw new IllegalArgumentException("Unsupported PQC Type: " + type);
+        }
+
+        try {
+            KeyPair keyPair = KeyPairGenerator.getInstance(algorithm, provider("KeyPairGenerator", algorithm)).generateKeyPair();
+            return new GeneratedKeyPair(type, rawPublicKey(keyPair.getPublic()), rawPrivateKey(type, keyPair.getPrivate()));
+        } catch (GeneralSecurityException | IOException e) {
+            throw new CryptoEngineException("JDK " + algorithm + " key generation failed", e);
+        }
+    }
+
+    @Override
+    public KemEncapsulation encapsulate(byte[] publicKey) {
+        try {
+            PublicKey key = publicKey(KEM_FAMILY, KEM_ALGORITHM_ID, publicKey);
+            return kemApi.encapsulate(provider("KEM", KEM_FAMILY), key, secureRandom);
+        } catch (InvalidKeyException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("Invalid ML-KEM public key", e);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new CryptoEngineException("JDK ML-KEM encapsulation failed", e);
+        }
+    }
+
+    @Override
+    public byte[] decapsulate(byte[] privateKey, byte[] encapsulation) {
+        try {
+            PrivateKey key = privateKey(PqcType.ML_KEM_768, KEM_FAMILY, KEM_ALGORITHM_ID, kemLegacyPkcs8, privateKey);
+            return kemApi.decapsulate(provider("KEM", KEM_FAMILY), key, encapsulation);
+        } catch (InvalidKeyException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("Invalid ML-KEM private key", e);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new CryptoEngineException("JDK ML-KEM decapsulation failed", e);
+        }
+    }
+
+    @Override
+    public byte[] sign(byte[] privateKey, byte[] message) throws CryptoException {
+        try {
+            Signature signer = Signature.getInstance(DSA_FAMILY, provider("Signature", DSA_FAMILY));
+            signer.initSign(privateKey(PqcType.ML_DSA_65, DSA_FAMILY, DSA_ALGORITHM_ID, dsaLegacyPkcs8, privateKey), secureRandom);
+            signer.update(message);
+            return signer.sign();
+        } catch (InvalidKeyException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("Invalid ML-DSA private key", e);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new CryptoException("JDK ML-DSA signing failed", e);
+        }
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+        try {
+            Signature verifier = Signature.getInstance(DSA_FAMILY, provider("Signature", DSA_FAMILY));
+            verifier.initVerify(publicKey(DSA_FAMILY, DSA_ALGORITHM_ID, publicKey));
+            verifier.update(message);
+            return verifier.verify(signature);
+        } catch (SignatureException e) {
+            return false; // 서명 길이/형식 오류 -> BC와 동일하게 검증 실패로 처리
+        } catch (InvalidKeyException | InvalidKeySpecException e) {
+            throw new IllegalArgumentException("Invalid ML-DSA public key", e);
+        } catch (GeneralSecurityException | IOException e) {
+            throw new CryptoEngineException("JDK ML-DSA verification failed", e);
+        }
+    }
+
+    private String selfTest() {
+        try {
+            GeneratedKeyPair kem = generateKeyPair(PqcType.ML_KEM_768);
+            KemEncapsulation encapsulated = encapsulate(kem.getPublicKey());
+            if (!Arrays.equals(encapsulated.getSecret(), decapsulate(kem.getPrivateKey(), encapsulated.getEncapsulation()))) {
+                return "ML-KEM self-test mismatch";
+            }
+
+            GeneratedKeyPair dsa = generateKeyPair(PqcType.ML_DSA_65);
+            byte[] message = "pqc-jdk-engine-self-test".getBytes(StandardCharsets.US_ASCII);
+            if (!verify(dsa.getPublicKey(), message, sign(dsa.getPrivateKey(), message))) {
+                return "ML-DSA self-test failed";
+            }
+            return null;
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
+    private Provider provider(String type, String algorithm) {
+        return providers.get(type + "." + algorithm);
+    }
+
+    private static Provider findProvider(String type, String algorithm, String preferred) throws NoSuchAlgorithmException {
+        boolean hasPreference = preferred != null && !preferred.isBlank();
+        for (Provider provider : Security.getProviders()) {
+            if (hasPreference ? !provider.getName().equals(preferred) : EXCLUDED_PROVIDERS.contains(provider.getName())) {
+                continue;
+            }
+            if (provider.getService(type, algorithm) != null) {
+                return provider;
+            }
+        }
+        throw new NoSuchAlgorithmException(type + "." + algorithm + " is not provided by "
+                + (hasPreference ? preferred : "the JDK"));
+    }
+
+    private PublicKey publicKey(String family, AlgorithmIdentifier algorithmId, byte[] raw)
+            throws GeneralSecurityException, IOException {
+        byte[] encoded = new SubjectPublicKeyInfo(algorithmId, raw).getEncoded(ASN1Encoding.DER);
+        return KeyFactory.getInstance(family, provider("KeyFactory", family)).generatePublic(new X509EncodedKeySpec(encoded));
+    }
+
+    /**
+     * 프로바이더의 PKCS#8 개인키 형식 판별 (계열당 생성 시 1회)
+     * - 표준 최종 형식(privateKey 안에 expandedKey OCTET STRING)이 수용되면 false
+     * - 거부되고 초기 JDK 형식(privateKey = 확장 개인키 바이트)이 수용되면 true, 둘 다 거부되면 예외
+     */
+    private boolean detectLegacyPkcs8(PqcType type, String family, String algorithm, AlgorithmIdentifier algorithmId)
+            throws GeneralSecurityException, IOException {
+        KeyPair keyPair = KeyPairGenerator.getInstance(algorithm, provider("KeyPairGenerator", algorithm)).generateKeyPair();
+        byte[] raw = rawPrivateKey(type, keyPair.getPrivate());
+        KeyFactory factory = KeyFactory.getInstance(family, provider("KeyFactory", family));
+        try {
+            factory.generatePrivate(new PKCS8EncodedKeySpec(encodePrivateKey(algorithmId, false, raw)));
+            return false;
+        } catch (InvalidKeySpecException e) {
+            factory.generatePrivate(new PKCS8EncodedKeySpec(encodePrivateKey(algorithmId, true, raw)));
+            return true;
+        }
+    }
+
+    /**
+     * 확장 개인키 -> PKCS#8 (생성 시 판별한 형식만 사용, 재시도 없음)
+     */
+    private PrivateKey privateKey(PqcType type, String family, AlgorithmIdentifier algorithmId, boolean legacy, byte[] raw)
+            throws GeneralSecurityException, IOException {
+        int expandedLength = type == PqcType.ML_KEM_768 ? KEM_PRIVATE_KEY_LENGTH : DSA_PRIVATE_KEY_LENGTH;
+        if (raw.length != expandedLength) {
+            throw new InvalidKeySpecException("Unexpected " + type + " private key length: " + raw.length);
+        }
+        KeyFactory factory = KeyFactory.getInstance(family, provider("KeyFactory", family));
+        return factory.generatePrivate(new PKCS8EncodedKeySpec(encodePrivateKey(algorithmId, legacy, raw)));
+    }
+
+    private static byte[] encodePrivateKey(AlgorithmIdentifier algorithmId, boolean legacy, byte[] raw) throws IOException {
+        if (legacy) {
+            return new DERSequence(new ASN1Encodable[]{
+                    new ASN1Integer(0), algorithmId, new DEROctetString(raw)
+            }).getEncoded(ASN1Encoding.DER);
+        }
+        return new PrivateKeyInfo(algorithmId, new DEROctetString(raw)).getEncoded(ASN1Encoding.DER);
+    }
+
+    private static byte[] rawPublicKey(PublicKey key) {
+        return SubjectPublicKeyInfo.getInstance(key.getEncoded()).getPublicKeyData().getBytes();
+    }
+
+    /**
+     * PKCS#8 -> 확장 개인키
+     * - 초기 형식(원시 바이트), expandedKey, both(seed + expandedKey), seed 전용 형식을 모두 처리
+     * - seed 전용이면 BC로 확장 개인키를 재계산
+     */
+    private static byte[] rawPrivateKey(PqcType type, PrivateKey key) throws IOException, InvalidKeySpecException {
+        byte[] octets = PrivateKeyInfo.getInstance(key.getEncoded()).getPrivateKey().getOctets();
+        int expandedLength = type == PqcType.ML_KEM_768 ? KEM_PRIVATE_KEY_LENGTH : DSA_PRIVATE_KEY_LENGTH;
+        if (octets.length == expandedLength) {
+            return octets;
+        }
+
+        ASN1Primitive inner = ASN1Primitive.fromByteArray(octets);
+        byte[] expanded;
+        if (inner instanceof ASN1OctetString expandedKey) {
+            expanded = expandedKey.getOctets();
+        } else if (inner instanceof ASN1Sequence both && both.size() == 2) {
+            expanded = ASN1OctetString.getInstance(both.getObjectAt(1)).getOctets();
+        } else if (inner instanceof ASN1TaggedObject seed) {
+            expanded = expandSeed(type, ASN1OctetString.getInstance(seed, false).getOctets());
+        } else {
+            throw new InvalidKeySpecException("Unsupported " + type + " PKCS#8 private key format");
+        }
+
+        if (expanded.length != expandedLength) {
+            throw new InvalidKeySpecException("Unexpected " + type + " private key length: " + expanded.length);
+        }
+        return expanded;
+    }
+
+    private static byte[] expandSeed(PqcType type, byte[] seed) {
+        if (type == PqcType.ML_KEM_768) {
+            return new MLKEMPrivateKeyParameters(MLKEMParameters.ml_kem_768, seed).getEncoded();
+        }
+        return new MLDSAPrivateKeyParameters(MLDSAParameters.ml_dsa_65, seed).getEncoded();
+    }
+
+    /**
+     * javax.crypto.KEM 바인딩 (JDK 21+ API, 17 툴체인에서 컴파일하기 위해 MethodHandle 사용)
+     */
+    private static final class KemApi {
+        final MethodHandle getInstance;
+        final MethodHandle newEncapsulator;
+        final MethodHandle encapsulate;
+        final MethodHandle key;
+        final MethodHandle encapsulation;
+        final MethodHandle newDecapsulator;
+        final MethodHandle decapsulate;
+
+        private KemApi(MethodHandle getInstance, MethodHandle newEncapsulator, MethodHandle encapsulate,
+                       MethodHandle key, MethodHandle encapsulation,
+                       MethodHandle newDecapsulator, MethodHandle decapsulate) {
+            this.getInstance = getInstance;
+            this.newEncapsulator = newEncapsulator;
+            this.encapsulate = encapsulate;
+            this.key = key;
+            this.encapsulation = encapsulation;
+            this.newDecapsulator = newDecapsulator;
+            this.decapsulate = decapsulate;
+        }
+
+        static KemApi bind() throws ReflectiveOperationException {
+            Class<?> kem = Class.forName("javax.crypto.KEM");
+            Class<?> encapsulator = Class.forName("javax.crypto.KEM$Encapsulator");
+            Class<?> encapsulated = Class.forName("javax.crypto.KEM$Encapsulated");
+            Class<?> decapsulator = Class.forName("javax.crypto.KEM$Decapsulator");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            return new KemApi(
+                    lookup.findStatic(kem, "getInstance", MethodType.methodType(kem, String.class, Provider.class)),
+                    lookup.findVirtual(kem, "newEncapsulator",
+                            MethodType.methodType(encapsulator, PublicKey.class, SecureRandom.class)),
+                    lookup.findVirtual(encapsulator, "encapsulate", MethodType.methodType(encapsulated)),
+                    lookup.findVirtual(encapsulated, "key", MethodType.methodType(SecretKey.class)),
+                    lookup.findVirtual(encapsulated, "encapsulation", MethodType.methodType(byte[].class)),
+                    lookup.findVirtual(kem, "newDecapsulator", MethodType.methodType(decapsulator, PrivateKey.class)),
+                    lookup.findVirtual(decapsulator, "decapsulate", MethodType.methodType(SecretKey.class, byte[].class))
+            );
+        }
+
+        KemEncapsulation encapsulate(Provider provider, PublicKey publicKey, SecureRandom random)
+                throws GeneralSecurityException {
+            try {
+                Object kem = getInstance.invoke(KEM_FAMILY, provider);
+                Object encapsulator = newEncapsulator.invoke(kem, publicKey, random);
+                Object result = encapsulate.invoke(encapsulator);
+                SecretKey secret = (SecretKey) key.invoke(result);
+                return new KemEncapsulation(secret.getEncoded(), (byte[]) encapsulation.invoke(result));
+            } catch (GeneralSecurityException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        byte[] decapsulate(Provider provider, PrivateKey privateKey, byte[] ciphertext) throws GeneralSecurityException {
+            try {
+                Object kem = getInstance.invoke(KEM_FAMILY, provider);
+                Object decapsulator = newDecapsulator.invoke(kem, privateKey);
+                SecretKey secret = (SecretKey) decapsulate.invoke(decapsulator, ciphertext);
+                return secret.getEncoded();
+            } catch (GeneralSecurityException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+}
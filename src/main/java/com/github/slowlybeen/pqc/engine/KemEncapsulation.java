@@ -0,0 +1,12 @@
+package com.github.slowlybeen.pqc.engine;
+
+import lombok.Value;
+
+/**
+ * KEM 캡슐화 결과 (공유키 + 수신자에게 전달할 암호문)
+ */
+@Value
+public class KemEncapsulation {
+    byte[] secret;
+    byte[] encapsulation;
+}
@@ -0,0 +1,32 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import org.bouncycastle.crypto.CryptoException;
+
+/**
+ * ML-KEM-768 / ML-DSA-65 암호 엔진 SPI
+ * - 키/암호문/서명은 모두 FIPS 203/204 원시 인코딩 (공개키, 확장 개인키) -> 엔진이 달라도 그대로 호환
+ * - 구현체는 스레드 안전해야 함 (스케줄러 워커, 대량 발급 풀에서 동시 호출)
+ */
+public interface PqcCryptoEngine {
+
+    /**
+     * 설정 값으로 사용하는 엔진 식별자 (bc, jdk)
+     */
+    String name();
+
+    /**
+     * 현재 런타임에서 사용 가능 여부 (JDK 엔진은 JDK 24+ 에서만 true)
+     */
+    boolean isAvailable();
+
+    GeneratedKeyPair generateKeyPair(PqcType type);
+
+    KemEncapsulation encapsulate(byte[] publicKey);
+
+    byte[] decapsulate(byte[] privateKey, byte[] encapsulation);
+
+    byte[] sign(byte[] privateKey, byte[] message) throws CryptoException;
+
+    boolean verify(byte[] publicKey, byte[] message, byte[] signature);
+}
@@ -0,0 +1,8 @@
+package com.github.slowlybeen.pqc.exception;
+
+public class BulkJobRejectedException extends RuntimeException {
+
+    public BulkJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.slowlybeen.pqc.exception;
+
+/**
+ * 암호 엔진 내부 오류 (JCA 검사 예외 등을 엔진 SPI 밖으로 전달할 때 사용)
+ */
+public class CryptoEngineException extends RuntimeException {
+
+    public CryptoEngineException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.security.GeneralSecurityException;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -21,8 +22,9 @@ public class PqcGlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid Key or Parameter Format", e.getMessage());
     }
 
-    // 2. Bouncy Castle 암호화 연산 예외 처리
-    @ExceptionHandler({CryptoException.class, DataLengthException.class})
+    // 2. Bouncy Castle / JCA 암호화 연산 예외 처리
+    @ExceptionHandler({CryptoException.class, DataLengthException.class, GeneralSecurityException.class,
+            CryptoEngineException.class})
     public ResponseEntity<?> handleCryptoException(Exception e) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Cryptography Error", "PQC operation failed: " + e.getMessage());
     }
@@ -48,7 +50,19 @@ public class PqcGlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "IP Filter Error", e.getMessage());
     }
 
-    // 6. 알 수 없는 내부 서버 오류
+    // 6. 암호 연산 스케줄러 포화 (대기열 초과 / 대기 시간 초과)
+    @ExceptionHandler(SchedulerRejectedException.class)
+    public ResponseEntity<?> handleSchedulerRejected(SchedulerRejectedException e) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Crypto Scheduler Busy", e.getMessage());
+    }
+
+    // 7. 대량 키 발급 동시 작업 수 초과
+    @ExceptionHandler(BulkJobRejectedException.class)
+    public ResponseEntity<?> handleBulkJobRejected(BulkJobRejectedException e) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Bulk Provisioning Busy", e.getMessage());
+    }
+
+    // 8. 알 수 없는 내부 서버 오류
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneralException(Exception e) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Crypto Error", "Operation failed safely.");
@@ -0,0 +1,8 @@
+package com.github.slowlybeen.pqc.exception;
+
+public class SchedulerRejectedException extends RuntimeException {
+
+    public SchedulerRejectedException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.github.slowlybeen.pqc.filter;
 
 import com.github.slowlybeen.pqc.config.SecurityProperties;
 import com.github.slowlybeen.pqc.exception.IpFilterException;
+import com.github.slowlybeen.pqc.jfr.IpWhitelistCheckEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,7 +43,13 @@ public class IpWhitelistFilter extends OncePerRequestFilter {
         try {
             String clientIp = extractClientIp(request);
 
-            if (isAllowed(clientIp)) {
+            IpWhitelistCheckEvent event = new IpWhitelistCheckEvent(clientIp);
+            event.begin();
+            boolean allowed = isAllowed(clientIp);
+            event.allowed(allowed);
+            event.commit();
+
+            if (allowed) {
                 log.debug("[IP Filter] 허용: {}", clientIp);
 
                 var auth = new UsernamePasswordAuthenticationToken(
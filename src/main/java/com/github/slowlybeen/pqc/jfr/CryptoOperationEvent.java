@@ -0,0 +1,103 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import com.github.slowlybeen.pqc.warmup.WarmupContext;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * PQC 연산 1건 단위 JFR 이벤트
+ * - 단계별 시간: decode(Base64/키 파싱) -> crypto(엔진 연산) -> encode(결과 Base64)
+ * - 기록 중이 아니면 isEnabled()가 false라 nanoTime 호출조차 생략
+ */
+@Name("com.github.slowlybeen.pqc.CryptoOperation")
+@Label("PQC Crypto Operation")
+@Category({"PQC", "Crypto"})
+@StackTrace(false)
+public class CryptoOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Key Size")
+    @DataAmount
+    int keySize;
+
+    @Label("Message Size")
+    @DataAmount
+    int messageSize;
+
+    @Label("Decode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long decodeTime;
+
+    @Label("Crypto Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cryptoTime;
+
+    @Label("Encode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long encodeTime;
+
+    @Label("Success")
+    @Description("false면 검증 실패 또는 연산 오류")
+    boolean success;
+
+    @Label("Warm-up")
+    @Description("기동 직후 워밍업 합성 트래픽 여부")
+    boolean warmup;
+
+    private transient long lap;
+
+    public static CryptoOperationEvent start(String operation, String algorithm) {
+        CryptoOperationEvent event = new CryptoOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.algorithm = algorithm;
+            event.warmup = WarmupContext.isActive();
+            event.lap = System.nanoTime();
+            event.begin();
+        }
+        return event;
+    }
+
+    /** 입력 디코딩 완료 (키/메시지 크기 기록) */
+    public void decoded(int keySize, int messageSize) {
+        if (isEnabled()) {
+            this.keySize = keySize;
+            this.messageSize = messageSize;
+            this.decodeTime = lap();
+        }
+    }
+
+    /** 암호 연산 완료 */
+    public void computed() {
+        if (isEnabled()) {
+            this.cryptoTime = lap();
+        }
+    }
+
+    /** 결과 인코딩까지 끝난 뒤 커밋 */
+    public void finish(boolean success) {
+        if (isEnabled()) {
+            this.encodeTime = lap();
+            this.success = success;
+            commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - lap;
+        lap = now;
+        return elapsed;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.slowlybeen.pqc.IpWhitelistCheck")
+@Label("PQC IP Whitelist Check")
+@Category({"PQC", "Security"})
+@StackTrace(false)
+public class IpWhitelistCheckEvent extends Event {
+
+    @Label("Client IP")
+    String clientIp;
+
+    @Label("Allowed")
+    boolean allowed;
+
+    public IpWhitelistCheckEvent(String clientIp) {
+        this.clientIp = clientIp;
+    }
+
+    public void allowed(boolean allowed) {
+        this.allowed = allowed;
+    }
+}
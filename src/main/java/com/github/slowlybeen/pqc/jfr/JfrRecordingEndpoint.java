@@ -0,0 +1,166 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import com.github.slowlybeen.pqc.config.JfrProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 중 JFR 녹화 제어용 Actuator 엔드포인트
+ * - GET    /actuator/jfr            : 상태 조회
+ * - POST   /actuator/jfr            : 녹화 시작 (maxAgeSeconds, maxSizeMb, durationSeconds 선택, 설정 상한으로 제한)
+ * - DELETE /actuator/jfr            : 녹화 중지
+ * - GET    /actuator/jfr/recording  : 현재(또는 마지막) 녹화 파일 다운로드
+ * 녹화 중이 아닐 때 커스텀 이벤트는 비활성 상태이므로 오버헤드가 사실상 없음
+ * 환경 변수/시스템 프로퍼티/JVM 인자/프로세스 목록 이벤트는 비밀값 유출 방지를 위해 항상 제외
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "pqc-api-service";
+    private static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess"
+    );
+
+    private final JfrProperties properties;
+    private Recording recording;
+    private Path dumpFile;
+
+    public JfrRecordingEndpoint(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState());
+        status.put("settings", properties.getSettings());
+        status.put("startTime", recording.getStartTime());
+        status.put("stopTime", recording.getStopTime());
+        status.put("maxAgeSeconds", recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : null);
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@OptionalParameter Long maxAgeSeconds,
+                                                                       @OptionalParameter Long maxSizeMb,
+                                                                       @OptionalParameter Long durationSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(Map.of("error", "Recording already running"), HttpStatus.CONFLICT.value());
+        }
+
+        try {
+            closeRecording();
+            Recording newRecording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            newRecording.setName(RECORDING_NAME);
+            SENSITIVE_EVENTS.forEach(newRecording::disable);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(bounded(maxAgeSeconds, properties.getMaxAge()));
+            newRecording.setMaxSize(Math.min(
+                    maxSizeMb != null ? maxSizeMb * 1024 * 1024 : Long.MAX_VALUE,
+                    properties.getMaxSize().toBytes()));
+            newRecording.setDuration(bounded(durationSeconds, properties.getMaxDuration()));
+            newRecording.start();
+            recording = newRecording;
+
+            log.info("[JFR] 녹화 시작 - settings: {}, maxAge: {}, maxSize: {}B, duration: {}",
+                    properties.getSettings(), newRecording.getMaxAge(), newRecording.getMaxSize(), newRecording.getDuration());
+            return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+        } catch (IOException | ParseException e) {
+            log.error("[JFR] 녹화 시작 실패", e);
+            return new WebEndpointResponse<>(Map.of("error", "Failed to start recording"), WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("[JFR] 녹화 중지 - size: {}B", recording.getSize());
+        }
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) {
+        if (!"recording".equals(name) || recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+
+        try {
+            deleteDumpFile();
+            dumpFile = Files.createTempFile("pqc-", ".jfr");
+            recording.dump(dumpFile); // 녹화 중에도 현재까지의 링 버퍼를 덤프
+            // 응답 전송이 끝나 스트림이 닫히면 덤프 파일 삭제
+            InputStream stream = Files.newInputStream(dumpFile, StandardOpenOption.DELETE_ON_CLOSE);
+            return new WebEndpointResponse<>(new InputStreamResource(stream), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            log.error("[JFR] 녹화 덤프 실패", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        closeRecording();
+    }
+
+    private Duration bounded(@Nullable Long requestedSeconds, Duration limit) {
+        if (requestedSeconds == null || requestedSeconds <= 0) {
+            return limit;
+        }
+        Duration requested = Duration.ofSeconds(requestedSeconds);
+        return requested.compareTo(limit) < 0 ? requested : limit;
+    }
+
+    private void closeRecording() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        deleteDumpFile();
+    }
+
+    private void deleteDumpFile() throws IOException {
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+            dumpFile = null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import com.github.slowlybeen.pqc.warmup.WarmupContext;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.slowlybeen.pqc.KeyPoolBorrow")
+@Label("PQC Key Pool Borrow")
+@Category({"PQC", "Key Pool"})
+@StackTrace(false)
+public class KeyPoolBorrowEvent extends Event {
+
+    @Label("Key Type")
+    String keyType;
+
+    @Label("Pool Hit")
+    boolean hit;
+
+    @Label("Remaining")
+    int remaining;
+
+    @Label("Warm-up")
+    boolean warmup;
+
+    public KeyPoolBorrowEvent(String keyType) {
+        this.keyType = keyType;
+        this.warmup = WarmupContext.isActive();
+    }
+
+    public void result(boolean hit, int remaining) {
+        this.hit = hit;
+        this.remaining = remaining;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import com.github.slowlybeen.pqc.warmup.WarmupContext;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.slowlybeen.pqc.KeyPoolExhausted")
+@Label("PQC Key Pool Exhausted")
+@Description("풀이 비어 요청 스레드에서 키를 즉시 생성한 구간")
+@Category({"PQC", "Key Pool"})
+@StackTrace(false)
+public class KeyPoolExhaustedEvent extends Event {
+
+    @Label("Key Type")
+    String keyType;
+
+    @Label("Warm-up")
+    boolean warmup;
+
+    public KeyPoolExhaustedEvent(String keyType) {
+        this.keyType = keyType;
+        this.warmup = WarmupContext.isActive();
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import com.github.slowlybeen.pqc.warmup.WarmupContext;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.slowlybeen.pqc.KeyPoolRefill")
+@Label("PQC Key Pool Refill")
+@Category({"PQC", "Key Pool"})
+@StackTrace(false)
+public class KeyPoolRefillEvent extends Event {
+
+    @Label("KEM Keys Generated")
+    int kemGenerated;
+
+    @Label("DSA Keys Generated")
+    int dsaGenerated;
+
+    @Label("Warm-up")
+    boolean warmup = WarmupContext.isActive();
+
+    public void generated(int kemGenerated, int dsaGenerated) {
+        this.kemGenerated = kemGenerated;
+        this.dsaGenerated = dsaGenerated;
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.slowlybeen.pqc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.github.slowlybeen.pqc.RateLimitRejected")
+@Label("PQC Rate Limit Rejected")
+@Category({"PQC", "Security"})
+@StackTrace(false)
+public class RateLimitRejectedEvent extends Event {
+
+    @Label("Client IP")
+    String clientIp;
+
+    @Label("Request URI")
+    String requestUri;
+
+    public RateLimitRejectedEvent(String clientIp, String requestUri) {
+        this.clientIp = clientIp;
+        this.requestUri = requestUri;
+    }
+}
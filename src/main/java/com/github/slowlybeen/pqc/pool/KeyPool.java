@@ -1,16 +1,17 @@
 package com.github.slowlybeen.pqc.pool;
 
 import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.CryptoEngineRegistry;
+import com.github.slowlybeen.pqc.engine.CryptoOperation;
+import com.github.slowlybeen.pqc.jfr.KeyPoolBorrowEvent;
+import com.github.slowlybeen.pqc.jfr.KeyPoolExhaustedEvent;
+import com.github.slowlybeen.pqc.jfr.KeyPoolRefillEvent;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.bouncycastle.pqc.crypto.mldsa.*;
-import org.bouncycastle.pqc.crypto.mlkem.*;
-import org.bouncycastle.util.encoders.Base64;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -28,7 +29,11 @@ public class KeyPool {
 
     private final BlockingQueue<Map<String, String>> kemPool = new LinkedBlockingQueue<>();
     private final BlockingQueue<Map<String, String>> dsaPool = new LinkedBlockingQueue<>();
-    private final SecureRandom secureRandom = new SecureRandom();
+    private final CryptoEngineRegistry engines;
+
+    public KeyPool(CryptoEngineRegistry engines) {
+        this.engines = engines;
+    }
 
     @PostConstruct
     public void init() {
@@ -37,13 +42,28 @@ public class KeyPool {
         log.info("[KeyPool] 초기화 완료 - KEM: {}, DSA: {}", kemPool.size(), dsaPool.size());
     }
 
+    /**
+     * 풀 보충 (스케줄러와 워밍업이 동시에 호출할 수 있으므로 직렬화 - 목표 크기 초과 생성 방지)
+     */
     @Scheduled(fixedDelayString = "${pqc.pool.refill-interval:5000}")
-    public void refillPools() {
+    public synchronized void refillPools() {
+        KeyPoolRefillEvent event = new KeyPoolRefillEvent();
+        event.begin();
+        int kemGenerated = 0;
+        int dsaGenerated = 0;
+
         while (kemPool.size() < kemPoolSize) {
             kemPool.offer(generateKemKeyPair());
+            kemGenerated++;
         }
         while (dsaPool.size() < dsaPoolSize) {
             dsaPool.offer(generateDsaKeyPair());
+            dsaGenerated++;
+        }
+
+        if (event.shouldCommit()) {
+            event.generated(kemGenerated, dsaGenerated);
+            event.commit();
         }
         log.debug("[KeyPool] 보충 완료 - KEM: {}, DSA: {}", kemPool.size(), dsaPool.size());
     }
@@ -52,24 +72,33 @@ public class KeyPool {
      * 풀에서 키 획득 (없으면 즉시 생성)
      */
     public Map<String, String> borrowKey(PqcType type) {
-        Map<String, String> key = null;
+        BlockingQueue<Map<String, String>> pool;
 
         if (type == PqcType.ML_KEM_768) {
-            key = kemPool.poll();
-            if (key == null) {
-                log.warn("[KeyPool] KEM 풀 고갈, 즉시 생성");
-                key = generateKemKeyPair();
-            }
+            pool = kemPool;
         } else if (type == PqcType.ML_DSA_65) {
-            key = dsaPool.poll();
-            if (key == null) {
-                log.warn("[KeyPool] DSA 풀 고갈, 즉시 생성");
-                key = generateDsaKeyPair();
-            }
+            pool = dsaPool;
         } else {
             throw new IllegalArgumentException("Unsupported PQC Type: " + type);
         }
 
+        KeyPoolBorrowEvent event = new KeyPoolBorrowEvent(type.name());
+        event.begin();
+
+        Map<String, String> key = pool.poll();
+        boolean hit = key != null;
+        if (!hit) {
+            log.warn("[KeyPool] {} 풀 고갈, 즉시 생성", type == PqcType.ML_KEM_768 ? "KEM" : "DSA");
+            KeyPoolExhaustedEvent exhausted = new KeyPoolExhaustedEvent(type.name());
+            exhausted.begin();
+            key = type == PqcType.ML_KEM_768 ? generateKemKeyPair() : generateDsaKeyPair();
+            exhausted.commit();
+        }
+
+        if (event.shouldCommit()) {
+            event.result(hit, pool.size());
+            event.commit();
+        }
         return key;
     }
 
@@ -84,24 +113,10 @@ public class KeyPool {
     }
 
     private Map<String, String> generateKemKeyPair() {
-        MLKEMKeyPairGenerator gen = new MLKEMKeyPairGenerator();
-        gen.init(new MLKEMKeyGenerationParameters(secureRandom, MLKEMParameters.ml_kem_768));
-        var kp = gen.generateKeyPair();
-
-        return Map.of(
-                "publicKey", Base64.toBase64String(((MLKEMPublicKeyParameters) kp.getPublic()).getEncoded()),
-                "privateKey", Base64.toBase64String(((MLKEMPrivateKeyParameters) kp.getPrivate()).getEncoded())
-        );
+        return engines.engineFor(CryptoOperation.KEYGEN).generateKeyPair(PqcType.ML_KEM_768).toBase64Map();
     }
 
     private Map<String, String> generateDsaKeyPair() {
-        MLDSAKeyPairGenerator gen = new MLDSAKeyPairGenerator();
-        gen.init(new MLDSAKeyGenerationParameters(secureRandom, MLDSAParameters.ml_dsa_65));
-        var kp = gen.generateKeyPair();
-
-        return Map.of(
-                "publicKey", Base64.toBase64String(((MLDSAPublicKeyParameters) kp.getPublic()).getEncoded()),
-                "privateKey", Base64.toBase64String(((MLDSAPrivateKeyParameters) kp.getPrivate()).getEncoded())
-        );
+        return engines.engineFor(CryptoOperation.KEYGEN).generateKeyPair(PqcType.ML_DSA_65).toBase64Map();
     }
 }
\ No newline at end of file
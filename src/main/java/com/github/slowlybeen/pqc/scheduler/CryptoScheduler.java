@@ -0,0 +1,406 @@
+package com.github.slowlybeen.pqc.scheduler;
+
+import com.github.slowlybeen.pqc.config.SchedulerProperties;
+import com.github.slowlybeen.pqc.exception.SchedulerRejectedException;
+import com.github.slowlybeen.pqc.warmup.WarmupContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 암호 연산 가중 공정 큐 스케줄러 (2단계 Start-time Fair Queuing)
+ * - 1단계: 우선순위 클래스 간 -> 클래스 weight 비율로 CPU 시간 배분
+ * - 2단계: 클래스 내부 클라이언트(IP) 간 -> 동일 비율로 배분 (한 클라이언트가 큐를 독점하지 못함)
+ * - 작업 비용 = 연산별 실측 실행 시간 EWMA x units -> 비싼 연산(keygen, 대용량 sign)일수록 가상 시간이 크게 증가
+ * - 고정 워커 스레드에서만 실행되므로 Tomcat 스레드가 많아도 동시 암호 연산 수는 워커 수로 제한
+ * - 마지막 작업이 나간 클라이언트도 종료 태그가 클래스 가상 시간보다 크면 유지 -> 실행 중인 비싼 작업 비용이 다음 요청에 반영
+ */
+@Slf4j
+@Component
+public class CryptoScheduler {
+
+    private static final String INTERNAL_CLIENT = "internal";
+    private static final double EWMA_ALPHA = 0.2;
+    private static final long INITIAL_COST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final ThreadLocal<Boolean> WORKER_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final SchedulerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PriorityClassQueue> classes = new LinkedHashMap<>();
+    private final Map<String, PriorityClassQueue> classByOperation = new HashMap<>();
+    private final PriorityClassQueue defaultClass;
+    private final Map<String, AtomicLong> costNanos = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private double virtualTime;
+    private int totalDepth;
+    private volatile boolean running;
+
+    public CryptoScheduler(SchedulerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        properties.getClasses().forEach((name, config) -> {
+            PriorityClassQueue queue = new PriorityClassQueue(name, Math.max(config.getWeight(), 1));
+            classes.put(name, queue);
+            for (String operation : config.getOperations()) {
+                classByOperation.put(operation, queue);
+            }
+        });
+        this.defaultClass = classes.computeIfAbsent(properties.getDefaultClass(), name -> new PriorityClassQueue(name, 1));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("[Scheduler] 비활성화됨 - 요청 스레드에서 직접 실행");
+            return;
+        }
+
+        int workerCount = properties.getWorkers() > 0 ? properties.getWorkers() : Runtime.getRuntime().availableProcessors();
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "pqc-crypto-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("[Scheduler] 시작 - workers: {}, classes: {}", workerCount,
+                classes.values().stream().map(c -> c.name + "(w=" + c.weight + ")").toList());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+
+        lock.lock();
+        try {
+            for (PriorityClassQueue cls : classes.values()) {
+                for (ClientQueue client : cls.clients.values()) {
+                    client.tasks.forEach(task -> task.future.completeExceptionally(
+                            new SchedulerRejectedException("Crypto scheduler is shutting down")));
+                }
+                cls.clients.clear();
+                cls.ready.clear();
+                cls.idle.clear();
+                cls.depth = 0;
+            }
+            totalDepth = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        return execute(operation, 1, work);
+    }
+
+    /**
+     * 연산을 공정 큐에 넣고 완료될 때까지 대기
+     * @param units 비용 배수 (예: 일괄 캡슐화의 수신자 수)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, int units, Supplier<T> work) {
+        // 비활성화 상태, 이미 워커 안에서 호출된 경우(중첩), 워밍업 트래픽은 바로 실행 (대기/비용 통계 제외)
+        if (!running || WORKER_THREAD.get() || WarmupContext.isActive()) {
+            return work.get();
+        }
+
+        Task task = new Task(operation, Math.max(units, 1), work, resolveClientId());
+        enqueue(List.of(task));
+        return (T) await(task);
+    }
+
+    /**
+     * 서로 독립인 작업들을 각각 별도 작업으로 공정 큐에 넣고 입력 순서대로 결과 수집
+     * - 여러 워커가 나눠 실행하므로 병렬이지만, 작업마다 클래스 가중치/클라이언트 공정성이 그대로 적용
+     * - 큐 상한은 호출 단위로 검사 (수락되면 전부 적재, 거절되면 하나도 넣지 않음)
+     * - 입력 순서상 첫 실패를 던지고, 아직 실행되지 않은 나머지는 취소
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> executeAll(String operation, List<? extends Supplier<T>> works) {
+        if (!running || WORKER_THREAD.get() || WarmupContext.isActive()) {
+            List<T> results = new ArrayList<>(works.size());
+            works.forEach(work -> results.add(work.get()));
+            return results;
+        }
+
+        String clientId = resolveClientId();
+        List<Task> tasks = works.stream().map(work -> new Task(operation, 1, work, clientId)).toList();
+        enqueue(tasks);
+
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Task task : tasks) {
+                results.add((T) await(task));
+            }
+            return results;
+        } finally {
+            if (results.size() < tasks.size()) {
+                tasks.forEach(task -> task.future.cancel(false));
+            }
+        }
+    }
+
+    private Object await(Task task) {
+        try {
+            return task.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SchedulerRejectedException("Interrupted while waiting for crypto scheduler");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void enqueue(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        PriorityClassQueue cls = classByOperation.getOrDefault(tasks.get(0).operation, defaultClass);
+
+        lock.lock();
+        try {
+            if (totalDepth >= properties.getMaxQueueDepth()) {
+                cls.rejected.increment();
+                throw new SchedulerRejectedException("Crypto work queue is full");
+            }
+
+            ClientQueue client = cls.clients.computeIfAbsent(tasks.get(0).clientId, ClientQueue::new);
+            for (Task task : tasks) {
+                task.owner = cls;
+                task.cost = (double) estimatedCost(task.operation) * task.units;
+                task.startTag = Math.max(cls.clientVirtualTime, client.lastFinish);
+                client.lastFinish = task.startTag + task.cost;
+
+                if (client.tasks.isEmpty()) {
+                    client.tasks.add(task);
+                    cls.ready.add(client);
+                } else {
+                    client.tasks.add(task);
+                }
+
+                if (cls.depth == 0) {
+                    cls.startTag = Math.max(virtualTime, cls.finishTag);
+                }
+                cls.depth++;
+                totalDepth++;
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Task take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (totalDepth == 0) {
+                notEmpty.await();
+            }
+
+            // 1단계: 시작 태그가 가장 작은 클래스
+            PriorityClassQueue cls = null;
+            for (PriorityClassQueue candidate : classes.values()) {
+                if (candidate.depth > 0 && (cls == null || candidate.startTag < cls.startTag)) {
+                    cls = candidate;
+                }
+            }
+
+            // 2단계: 클래스 내에서 선두 작업의 시작 태그가 가장 작은 클라이언트
+            ClientQueue client = cls.ready.poll();
+            Task task = client.tasks.poll();
+            if (client.tasks.isEmpty()) {
+                // 바로 지우면 실행 중인 작업 비용이 사라지므로 종료 태그를 클래스 가상 시간이 지날 때까지 보관
+                cls.idle.add(new IdleClient(client, client.lastFinish));
+            } else {
+                cls.ready.add(client);
+            }
+
+            cls.clientVirtualTime = task.startTag;
+            cls.pruneIdleClients();
+            virtualTime = cls.startTag;
+            cls.finishTag = cls.startTag + task.cost / cls.weight;
+            cls.startTag = cls.finishTag;
+            cls.depth--;
+            totalDepth--;
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        WORKER_THREAD.set(true);
+        while (running) {
+            Task task;
+            try {
+                task = take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (task.future.isDone()) {
+                continue; // executeAll에서 앞선 작업 실패로 취소됨
+            }
+
+            long waited = System.nanoTime() - task.enqueuedAt;
+            task.owner.waitTimer.record(waited, TimeUnit.NANOSECONDS);
+            if (!properties.getMaxWait().isZero() && waited > properties.getMaxWait().toNanos()) {
+                task.owner.rejected.increment();
+                task.future.completeExceptionally(new SchedulerRejectedException("Crypto work waited too long in queue"));
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                task.future.complete(task.work.get());
+            } catch (Throwable t) {
+                task.future.completeExceptionally(t);
+            } finally {
+                recordCost(task.operation, (System.nanoTime() - start) / task.units);
+            }
+        }
+    }
+
+    private long estimatedCost(String operation) {
+        return costGauge(operation).get();
+    }
+
+    private void recordCost(String operation, long nanosPerUnit) {
+        AtomicLong cost = costGauge(operation);
+        cost.updateAndGet(previous -> Math.round(previous + EWMA_ALPHA * (nanosPerUnit - previous)));
+    }
+
+    private AtomicLong costGauge(String operation) {
+        return costNanos.computeIfAbsent(operation, op -> {
+            AtomicLong cost = new AtomicLong(INITIAL_COST_NANOS);
+            Gauge.builder("pqc.scheduler.operation.cost", cost, AtomicLong::get)
+                    .tag("operation", op)
+                    .baseUnit("nanoseconds")
+                    .description("EWMA of measured execution cost used as fair-queue weight")
+                    .register(meterRegistry);
+            return cost;
+        });
+    }
+
+    private String resolveClientId() {
+        ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
+            return INTERNAL_CLIENT;
+        }
+        // X-Forwarded-For를 직접 읽으면 요청마다 값을 바꿔 다른 클라이언트로 위장할 수 있음
+        // 신뢰 가능한 프록시 뒤라면 server.forward-headers-strategy로 remoteAddr가 실제 주소로 치환됨
+        return attrs.getRequest().getRemoteAddr();
+    }
+
+    private final class PriorityClassQueue {
+        final String name;
+        final int weight;
+        final Map<String, ClientQueue> clients = new HashMap<>();
+        final PriorityQueue<ClientQueue> ready = new PriorityQueue<>(Comparator.comparingDouble(ClientQueue::headStartTag));
+        final PriorityQueue<IdleClient> idle = new PriorityQueue<>(Comparator.comparingDouble(IdleClient::finishTag));
+        final Timer waitTimer;
+        final Counter rejected;
+        double clientVirtualTime; // 클래스 내부 가상 시간
+        double startTag;          // 클래스 단위 다음 작업의 시작 태그
+        double finishTag;
+        int depth;
+
+        PriorityClassQueue(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+            this.waitTimer = Timer.builder("pqc.scheduler.wait")
+                    .tag("class", name)
+                    .description("Time crypto work spent queued before execution")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("pqc.scheduler.rejected")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("pqc.scheduler.queue.depth", this, c -> c.depth)
+                    .tag("class", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * 종료 태그가 클래스 가상 시간 이하로 내려온 유휴 클라이언트 제거
+         * - 이후 도착하는 작업은 어차피 clientVirtualTime에서 시작하므로 상태를 지워도 결과가 같음
+         * - 그 사이 다시 작업이 들어온 클라이언트(대기 작업 또는 더 큰 종료 태그)는 유지
+         */
+        void pruneIdleClients() {
+            while (!idle.isEmpty() && idle.peek().finishTag() <= clientVirtualTime) {
+                ClientQueue client = idle.poll().client();
+                if (client.tasks.isEmpty() && client.lastFinish <= clientVirtualTime) {
+                    clients.remove(client.clientId, client);
+                }
+            }
+        }
+    }
+
+    private record IdleClient(ClientQueue client, double finishTag) {
+    }
+
+    private static final class ClientQueue {
+        final String clientId;
+        final ArrayDeque<Task> tasks = new ArrayDeque<>();
+        double lastFinish;
+
+        ClientQueue(String clientId) {
+            this.clientId = clientId;
+        }
+
+        double headStartTag() {
+            return tasks.peek().startTag;
+        }
+    }
+
+    private static final class Task {
+        final String operation;
+        final int units;
+        final Supplier<?> work;
+        final String clientId;
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final long enqueuedAt = System.nanoTime();
+        PriorityClassQueue owner;
+        double cost;
+        double startTag;
+
+        Task(String operation, int units, Supplier<?> work, String clientId) {
+            this.operation = operation;
+            this.units = units;
+            this.work = work;
+            this.clientId = clientId;
+        }
+    }
+}
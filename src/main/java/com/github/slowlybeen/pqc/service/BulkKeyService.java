@@ -0,0 +1,84 @@
+package com.github.slowlybeen.pqc.service;
+
+import com.github.slowlybeen.pqc.bulk.BulkKeyGenerator;
+import com.github.slowlybeen.pqc.bulk.BulkKeyWriter;
+import com.github.slowlybeen.pqc.dto.BulkKeyFormat;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.CryptoEngineRegistry;
+import com.github.slowlybeen.pqc.engine.CryptoOperation;
+import com.github.slowlybeen.pqc.exception.BulkJobRejectedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 키 발급 (API용)
+ * - 키 생성은 전용 스레드 풀, 응답 기록은 MVC 비동기 스레드에서 수행 -> Tomcat 요청 스레드와 KeyPool 모두 사용하지 않음
+ * - 동시 작업 수는 max-concurrent-jobs로 제한, 초과 요청은 대기시키지 않고 즉시 503
+ *   (느린 수신자가 작업을 오래 붙잡아도 다른 요청이 무응답으로 타임아웃되지 않음)
+ * - 전용 풀은 작업당 parallelism개 스레드 x 동시 작업 수 -> 한 작업이 다른 작업의 스레드를 점유하지 않음
+ */
+@Slf4j
+@Service
+public class BulkKeyService {
+
+    private final int parallelism;
+    private final long maxCount;
+    private final CryptoEngineRegistry engines;
+    private final Semaphore jobSlots;
+    private final ExecutorService executor;
+
+    public BulkKeyService(CryptoEngineRegistry engines,
+                          @Value("${pqc.bulk.parallelism:0}") int parallelism,
+                          @Value("${pqc.bulk.max-concurrent-jobs:1}") int maxConcurrentJobs,
+                          @Value("${pqc.bulk.max-count:1000000}") long maxCount) {
+        this.engines = engines;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.maxCount = maxCount;
+
+        int slots = Math.max(maxConcurrentJobs, 1);
+        this.jobSlots = new Semaphore(slots);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism * slots, runnable -> {
+            Thread thread = new Thread(runnable, "pqc-bulk-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public StreamingResponseBody stream(PqcType type, long count, BulkKeyFormat format) {
+        if (count > maxCount) {
+            throw new IllegalArgumentException("count exceeds maximum of " + maxCount);
+        }
+
+        if (!jobSlots.tryAcquire()) {
+            throw new BulkJobRejectedException("Too many bulk key generation jobs in progress");
+        }
+
+        return out -> {
+            long start = System.nanoTime();
+            try {
+                new BulkKeyGenerator(executor, parallelism, engines.engineFor(CryptoOperation.KEYGEN))
+                        .generate(type, count, new BulkKeyWriter(format, out));
+            } finally {
+                // generate()는 취소된 생성 작업까지 풀에서 빠져나간 뒤 반환 -> 다음 작업이 이전 작업 뒤에 줄 서지 않음
+                jobSlots.release();
+            }
+            log.info("[BulkKeyGen] 완료 - type: {}, count: {}, format: {}, duration: {}ms",
+                    type, count, format, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
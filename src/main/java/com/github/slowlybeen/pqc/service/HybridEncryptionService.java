@@ -0,0 +1,258 @@
+package com.github.slowlybeen.pqc.service;
+
+import com.github.slowlybeen.pqc.dto.AeadAlgorithm;
+import com.github.slowlybeen.pqc.engine.KemEncapsulation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
+import org.bouncycastle.crypto.params.HKDFParameters;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+
+/**
+ * ML-KEM-768 + AEAD 스트리밍 하이브리드 암호화 (KEM-DEM)
+ *
+ * <pre>
+ * Header : magic "PQHE"(4) | version(1) | aeadId(1) | chunkSize(4) | kemCtLen(2) | kemCt | salt(32)
+ * Chunk i: AEAD(key, nonce_i, aad = finalFlag(1), plaintext_i) = ciphertext || tag(16)
+ * </pre>
+ * - key(32) || baseNonce(12) = HKDF-SHA256(ikm = KEM 공유키, salt, info = "PQC-HYBRID-V1" || header 앞 10바이트)
+ * - nonce_i = baseNonce XOR i (하위 8바이트), 마지막 청크만 finalFlag = 1 (잘림/재배열 탐지)
+ * - 마지막 청크를 제외한 모든 청크는 평문 chunkSize 고정 -> 청크 i 위치 = headerLen + i * (chunkSize + 16) 로 임의 접근 가능
+ * - 입출력은 채널 + 고정 크기 버퍼로만 처리하여 페이로드 크기와 무관하게 메모리 사용량 일정
+ */
+@Slf4j
+@Service
+public class HybridEncryptionService {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int MIN_CHUNK_SIZE = 1024;
+    public static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+    private static final byte[] MAGIC = "PQHE".getBytes(StandardCharsets.US_ASCII);
+    private static final byte VERSION = 1;
+    private static final byte[] HKDF_INFO = "PQC-HYBRID-V1".getBytes(StandardCharsets.US_ASCII);
+    private static final int PREFIX_LENGTH = 4 + 1 + 1 + 4; // magic | version | aeadId | chunkSize
+    private static final int MAX_KEM_CIPHERTEXT_LENGTH = 4096;
+    private static final int SALT_LENGTH = 32;
+    private static final int KEY_LENGTH = 32;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+
+    private final PqcCryptoService pqcService;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Counter encryptedBytesCounter;
+    private final Counter decryptedBytesCounter;
+
+    public HybridEncryptionService(PqcCryptoService pqcService, MeterRegistry meterRegistry) {
+        this.pqcService = pqcService;
+        this.encryptedBytesCounter = Counter.builder("pqc.hybrid.bytes")
+                .tag("direction", "encrypt")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.decryptedBytesCounter = Counter.builder("pqc.hybrid.bytes")
+                .tag("direction", "decrypt")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 평문 스트림 -> 헤더 + 청크 암호문 스트림
+     */
+    public void encrypt(byte[] publicKey, AeadAlgorithm aead, int chunkSize,
+                        ReadableByteChannel in, WritableByteChannel out) throws IOException, GeneralSecurityException {
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between " + MIN_CHUNK_SIZE + " and " + MAX_CHUNK_SIZE);
+        }
+
+        KemEncapsulation kem = pqcService.kemEncapsulate(publicKey);
+        byte[] kemCiphertext = kem.getEncapsulation();
+        byte[] salt = new byte[SALT_LENGTH];
+        secureRandom.nextBytes(salt);
+
+        ByteBuffer header = ByteBuffer.allocate(PREFIX_LENGTH + 2 + kemCiphertext.length + SALT_LENGTH)
+                .put(MAGIC)
+                .put(VERSION)
+                .put(aead.getId())
+                .putInt(chunkSize)
+                .putShort((short) kemCiphertext.length)
+                .put(kemCiphertext)
+                .put(salt);
+        byte[] headerPrefix = Arrays.copyOf(header.array(), PREFIX_LENGTH);
+        header.flip();
+        writeFully(out, header);
+
+        StreamKey streamKey = deriveKey(aead, kem.getSecret(), salt, headerPrefix);
+        Cipher cipher = Cipher.getInstance(aead.getTransformation());
+
+        // 마지막 청크 판별을 위해 한 청크 앞서 읽기 (current/next 두 버퍼 교대)
+        ByteBuffer current = ByteBuffer.allocate(chunkSize);
+        ByteBuffer next = ByteBuffer.allocate(chunkSize);
+        ByteBuffer output = ByteBuffer.allocate(chunkSize + TAG_LENGTH);
+        boolean currentFull = readFully(in, current);
+        long chunkIndex = 0;
+        long total = 0;
+
+        while (true) {
+            boolean nextFull = currentFull && readFully(in, next);
+            boolean last = !currentFull || next.position() == 0;
+            current.flip();
+            total += current.remaining();
+
+            output.clear();
+            cipher.init(Cipher.ENCRYPT_MODE, streamKey.key(), parameterSpec(aead, streamKey.nonce(chunkIndex++)));
+            cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+            cipher.doFinal(current, output);
+            output.flip();
+            writeFully(out, output);
+
+            if (last) break;
+            ByteBuffer swap = current;
+            current = next;
+            next = swap;
+            next.clear();
+            currentFull = nextFull;
+        }
+
+        encryptedBytesCounter.increment(total);
+        log.debug("[Hybrid] 암호화 완료 - aead: {}, chunks: {}, bytes: {}", aead, chunkIndex, total);
+    }
+
+    /**
+     * 헤더 + 청크 암호문 스트림 -> 평문 스트림 (청크 단위 인증 후 출력)
+     * - 중간 청크 인증 실패 시 예외로 중단되며, 그 전까지 출력된 청크는 각각 인증된 평문
+     */
+    public void decrypt(byte[] privateKey, ReadableByteChannel in, WritableByteChannel out)
+            throws IOException, GeneralSecurityException {
+        ByteBuffer prefix = ByteBuffer.allocate(PREFIX_LENGTH + 2);
+        if (!readFully(in, prefix)) {
+            throw new IllegalArgumentException("Truncated hybrid ciphertext header");
+        }
+        prefix.flip();
+
+        byte[] magic = new byte[MAGIC.length];
+        prefix.get(magic);
+        if (!Arrays.equals(magic, MAGIC) || prefix.get() != VERSION) {
+            throw new IllegalArgumentException("Not a supported hybrid ciphertext");
+        }
+        AeadAlgorithm aead = AeadAlgorithm.fromId(prefix.get());
+        int chunkSize = prefix.getInt();
+        int kemCiphertextLength = Short.toUnsignedInt(prefix.getShort());
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > MAX_CHUNK_SIZE
+                || kemCiphertextLength == 0 || kemCiphertextLength > MAX_KEM_CIPHERTEXT_LENGTH) {
+            throw new IllegalArgumentException("Invalid hybrid ciphertext header");
+        }
+        byte[] headerPrefix = Arrays.copyOf(prefix.array(), PREFIX_LENGTH);
+
+        ByteBuffer kemAndSalt = ByteBuffer.allocate(kemCiphertextLength + SALT_LENGTH);
+        if (!readFully(in, kemAndSalt)) {
+            throw new IllegalArgumentException("Truncated hybrid ciphertext header");
+        }
+        byte[] kemCiphertext = Arrays.copyOfRange(kemAndSalt.array(), 0, kemCiphertextLength);
+        byte[] salt = Arrays.copyOfRange(kemAndSalt.array(), kemCiphertextLength, kemCiphertextLength + SALT_LENGTH);
+
+        byte[] sharedSecret = pqcService.kemDecapsulate(privateKey, kemCiphertext);
+        StreamKey streamKey = deriveKey(aead, sharedSecret, salt, headerPrefix);
+        Cipher cipher = Cipher.getInstance(aead.getTransformation());
+
+        int frameSize = chunkSize + TAG_LENGTH;
+        ByteBuffer current = ByteBuffer.allocate(frameSize);
+        ByteBuffer next = ByteBuffer.allocate(frameSize);
+        ByteBuffer output = ByteBuffer.allocate(chunkSize);
+        boolean currentFull = readFully(in, current);
+        long chunkIndex = 0;
+        long total = 0;
+
+        while (true) {
+            boolean nextFull = currentFull && readFully(in, next);
+            boolean last = !currentFull || next.position() == 0;
+            current.flip();
+            if (current.remaining() < TAG_LENGTH) {
+                throw new IllegalArgumentException("Truncated hybrid ciphertext chunk");
+            }
+
+            output.clear();
+            cipher.init(Cipher.DECRYPT_MODE, streamKey.key(), parameterSpec(aead, streamKey.nonce(chunkIndex++)));
+            cipher.updateAAD(new byte[]{(byte) (last ? 1 : 0)});
+            cipher.doFinal(current, output);
+            output.flip();
+            total += output.remaining();
+            writeFully(out, output);
+
+            if (last) break;
+            ByteBuffer swap = current;
+            current = next;
+            next = swap;
+            next.clear();
+            currentFull = nextFull;
+        }
+
+        decryptedBytesCounter.increment(total);
+        log.debug("[Hybrid] 복호화 완료 - aead: {}, chunks: {}, bytes: {}", aead, chunkIndex, total);
+    }
+
+    private StreamKey deriveKey(AeadAlgorithm aead, byte[] sharedSecret, byte[] salt, byte[] headerPrefix) {
+        byte[] info = new byte[HKDF_INFO.length + headerPrefix.length];
+        System.arraycopy(HKDF_INFO, 0, info, 0, HKDF_INFO.length);
+        System.arraycopy(headerPrefix, 0, info, HKDF_INFO.length, headerPrefix.length);
+
+        HKDFBytesGenerator hkdf = new HKDFBytesGenerator(new SHA256Digest());
+        hkdf.init(new HKDFParameters(sharedSecret, salt, info));
+        byte[] okm = new byte[KEY_LENGTH + NONCE_LENGTH];
+        hkdf.generateBytes(okm, 0, okm.length);
+
+        return new StreamKey(
+                new SecretKeySpec(okm, 0, KEY_LENGTH, aead == AeadAlgorithm.AES_256_GCM ? "AES" : "ChaCha20"),
+                Arrays.copyOfRange(okm, KEY_LENGTH, KEY_LENGTH + NONCE_LENGTH));
+    }
+
+    private AlgorithmParameterSpec parameterSpec(AeadAlgorithm aead, byte[] nonce) {
+        return aead == AeadAlgorithm.AES_256_GCM
+                ? new GCMParameterSpec(TAG_LENGTH * 8, nonce)
+                : new IvParameterSpec(nonce);
+    }
+
+    /**
+     * 버퍼가 가득 찰 때까지 읽기 (EOF에 도달하면 false)
+     */
+    private static boolean readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private record StreamKey(SecretKeySpec key, byte[] baseNonce) {
+
+        byte[] nonce(long chunkIndex) {
+            byte[] nonce = baseNonce.clone();
+            for (int i = 0; i < Long.BYTES; i++) {
+                nonce[NONCE_LENGTH - 1 - i] ^= (byte) (chunkIndex >>> (8 * i));
+            }
+            return nonce;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.slowlybeen.pqc.service;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 서명용 SHA-256 Merkle Tree
+ * - 리프/노드 해시에 도메인 분리 접두사 사용 (0x00 leaf, 0x01 node, RFC 6962 방식)으로 2차 원상 공격 방지
+ * - 레벨의 마지막 노드가 짝이 없으면 해싱 없이 상위 레벨로 승격 -> 증명 길이는 ceil(log2 n) 이하
+ */
+final class MerkleTree {
+
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    private final List<byte[][]> levels = new ArrayList<>();
+
+    MerkleTree(byte[][] leafHashes) {
+        if (leafHashes.length == 0) {
+            throw new IllegalArgumentException("Merkle tree requires at least one leaf");
+        }
+        byte[][] level = leafHashes;
+        levels.add(level);
+        while (level.length > 1) {
+            byte[][] parent = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parent.length; i++) {
+                int left = i * 2;
+                parent[i] = left + 1 < level.length ? nodeHash(level[left], level[left + 1]) : level[left];
+            }
+            levels.add(parent);
+            level = parent;
+        }
+    }
+
+    byte[] root() {
+        return levels.get(levels.size() - 1)[0];
+    }
+
+    int size() {
+        return levels.get(0).length;
+    }
+
+    /**
+     * 리프 index의 포함 증명 (리프 -> 루트 방향 형제 해시 목록)
+     */
+    List<byte[]> proof(int index) {
+        List<byte[]> proof = new ArrayList<>();
+        int idx = index;
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            byte[][] level = levels.get(depth);
+            int sibling = idx ^ 1;
+            if (sibling < level.length) {
+                proof.add(level[sibling]);
+            }
+            idx >>= 1;
+        }
+        return proof;
+    }
+
+    /**
+     * 리프 해시 + 증명으로 루트 재계산 (증명 길이가 트리 모양과 맞지 않으면 null)
+     */
+    static byte[] computeRoot(byte[] leafHash, int index, int treeSize, List<byte[]> proof) {
+        if (index < 0 || treeSize <= 0 || index >= treeSize) {
+            return null;
+        }
+
+        byte[] hash = leafHash;
+        int idx = index;
+        int size = treeSize;
+        int used = 0;
+        while (size > 1) {
+            if ((idx & 1) == 1) {
+                if (used >= proof.size()) return null;
+                hash = nodeHash(proof.get(used++), hash);
+            } else if (idx + 1 < size) {
+                if (used >= proof.size()) return null;
+                hash = nodeHash(hash, proof.get(used++));
+            }
+            idx >>= 1;
+            size = (size + 1) / 2;
+        }
+        return used == proof.size() ? hash : null;
+    }
+
+    static byte[] leafHash(byte[] message) {
+        return digest(LEAF_PREFIX, message, null);
+    }
+
+    static byte[] nodeHash(byte[] left, byte[] right) {
+        return digest(NODE_PREFIX, left, right);
+    }
+
+    private static byte[] digest(byte prefix, byte[] first, byte[] second) {
+        SHA256Digest digest = new SHA256Digest();
+        digest.update(prefix);
+        digest.update(first, 0, first.length);
+        if (second != null) {
+            digest.update(second, 0, second.length);
+        }
+        byte[] out = new byte[digest.getDigestSize()];
+        digest.doFinal(out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.slowlybeen.pqc.service;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.util.encoders.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 검증 완료된 Merkle 루트 서명 캐시 (LRU)
+ * - 키: SHA-256(publicKey || treeSize || root || signature) -> 같은 배치의 나머지 메시지는 ML-DSA 검증 생략
+ * - 성공한 검증만 저장하므로 캐시 적중은 곧 유효한 루트 서명을 의미
+ */
+@Component
+public class VerifiedRootCache {
+
+    private final Map<String, Boolean> cache;
+
+    public VerifiedRootCache(@Value("${pqc.merkle.root-cache-size:10000}") int maxEntries) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public boolean contains(byte[] publicKey, byte[] signedRoot, byte[] signature) {
+        String key = cacheKey(publicKey, signedRoot, signature);
+        synchronized (this) {
+            return cache.get(key) != null; // get()으로 접근 순서 갱신
+        }
+    }
+
+    public void put(byte[] publicKey, byte[] signedRoot, byte[] signature) {
+        String key = cacheKey(publicKey, signedRoot, signature);
+        synchronized (this) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private String cacheKey(byte[] publicKey, byte[] signedRoot, byte[] signature) {
+        SHA256Digest digest = new SHA256Digest();
+        digest.update(publicKey, 0, publicKey.length);
+        digest.update(signedRoot, 0, signedRoot.length);
+        digest.update(signature, 0, signature.length);
+        byte[] out = new byte[digest.getDigestSize()];
+        digest.doFinal(out, 0);
+        return Hex.toHexString(out);
+    }
+}
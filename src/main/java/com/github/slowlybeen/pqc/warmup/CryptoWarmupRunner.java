@@ -0,0 +1,194 @@
+package com.github.slowlybeen.pqc.warmup;
+
+import com.github.slowlybeen.pqc.config.WarmupProperties;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.pool.KeyPool;
+import com.github.slowlybeen.pqc.service.PqcCryptoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JIT 워밍업 실행기
+ * - 기동 직후 인터프리터/C1 상태의 느린 구간을 실제 트래픽 대신 합성 연산으로 소화
+ * - BC를 직접 호출하지 않고 PqcCryptoService 경로 그대로 실행 (컨트롤러가 타는 코드와 동일)
+ * - 라운드별 평균 지연이 허용치 이내로 연속 안정되면 종료, 그 전까지 readiness는 OUT_OF_SERVICE
+ * - 워밍업 스레드는 WarmupContext로 표시 -> 운영 지표/스케줄러 통계에서 제외, JFR에는 warmup=true로 기록
+ */
+@Slf4j
+@Component
+public class CryptoWarmupRunner {
+
+    public enum State { PENDING, RUNNING, COMPLETED, FAILED, DISABLED }
+
+    static final List<String> OPERATIONS = List.of("keygen", "encapsulate", "decapsulate", "sign", "verify");
+    private static final String WARMUP_MESSAGE = "pqc-warmup-synthetic-message";
+
+    private final PqcCryptoService pqcService;
+    private final KeyPool keyPool;
+    private final WarmupProperties properties;
+
+    private final Map<String, Double> latencyNanos = new ConcurrentHashMap<>();
+    private volatile State state;
+    private volatile long durationNanos;
+    private volatile int rounds;
+    private volatile String failureReason;
+
+    public CryptoWarmupRunner(PqcCryptoService pqcService, KeyPool keyPool,
+                              WarmupProperties properties, MeterRegistry meterRegistry) {
+        this.pqcService = pqcService;
+        this.keyPool = keyPool;
+        this.properties = properties;
+        this.state = properties.isEnabled() ? State.PENDING : State.DISABLED;
+
+        TimeGauge.builder("pqc.warmup.duration", this, TimeUnit.NANOSECONDS, r -> r.durationNanos)
+                .description("JIT warm-up total duration")
+                .register(meterRegistry);
+        for (String operation : OPERATIONS) {
+            TimeGauge.builder("pqc.warmup.latency", latencyNanos, TimeUnit.NANOSECONDS,
+                            m -> m.getOrDefault(operation, 0.0))
+                    .tag("operation", operation)
+                    .description("Per-operation mean latency of the final warm-up round")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state != State.PENDING) {
+            log.info("[Warmup] 비활성화됨 - 즉시 트래픽 수신");
+            return;
+        }
+        state = State.RUNNING;
+        Thread worker = new Thread(this::runWarmup, "pqc-warmup");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED || state == State.DISABLED;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> latencyMicros = new LinkedHashMap<>();
+        for (String operation : OPERATIONS) {
+            Double nanos = latencyNanos.get(operation);
+            if (nanos != null) {
+                latencyMicros.put(operation, Math.round(nanos / 100.0) / 10.0);
+            }
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state);
+        status.put("rounds", rounds);
+        status.put("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        status.put("latencyMicros", latencyMicros);
+        if (failureReason != null) {
+            status.put("error", failureReason);
+        }
+        return status;
+    }
+
+    private void runWarmup() {
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        log.info("[Warmup] 시작 - iterations/round: {}, maxRounds: {}, tolerance: {}",
+                properties.getIterationsPerRound(), properties.getMaxRounds(), properties.getTolerance());
+
+        WarmupContext.enter();
+        try {
+            Map<String, Double> previous = null;
+            int stable = 0;
+
+            while (rounds < properties.getMaxRounds() && System.nanoTime() < deadline) {
+                Map<String, Double> current = runRound();
+                rounds++;
+                latencyNanos.putAll(current);
+                durationNanos = System.nanoTime() - start;
+
+                stable = (previous != null && isStable(previous, current)) ? stable + 1 : 0;
+                previous = current;
+                log.debug("[Warmup] round {} - {} (stable: {})", rounds, current, stable);
+
+                if (stable >= properties.getStableRounds()) {
+                    break;
+                }
+            }
+
+            durationNanos = System.nanoTime() - start;
+            state = State.COMPLETED;
+            log.info("[Warmup] 완료 - rounds: {}, stabilized: {}, duration: {}ms, latency(us): {}",
+                    rounds, stable >= properties.getStableRounds(),
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), getStatus().get("latencyMicros"));
+        } catch (Exception e) {
+            // 워밍업 실패로 서비스가 영원히 OUT_OF_SERVICE에 머무르지 않도록 콜드 상태로라도 트래픽 수신
+            durationNanos = System.nanoTime() - start;
+            failureReason = e.getClass().getSimpleName();
+            state = State.FAILED;
+            log.error("[Warmup] 실패 - 워밍업 없이 트래픽 수신", e);
+        } finally {
+            WarmupContext.exit();
+        }
+    }
+
+    /**
+     * 한 라운드 실행 후 연산별 평균 지연(ns) 반환
+     * - keygen은 풀에서 꺼낸 키를 실제 보충 로직(KeyPool.refillPools)으로 다시 생성하여 측정
+     */
+    private Map<String, Double> runRound() {
+        long[] totals = new long[OPERATIONS.size()];
+        int iterations = properties.getIterationsPerRound();
+
+        for (int i = 0; i < iterations; i++) {
+            long t0 = System.nanoTime();
+            Map<String, String> kemKeys = pqcService.generateKeys(PqcType.ML_KEM_768);
+            Map<String, String> dsaKeys = pqcService.generateKeys(PqcType.ML_DSA_65);
+            keyPool.refillPools();
+            long t1 = System.nanoTime();
+            Map<String, String> encapsulated = pqcService.kemEncapsulate(kemKeys.get("publicKey"));
+            long t2 = System.nanoTime();
+            String sharedSecret = pqcService.kemDecapsulate(kemKeys.get("privateKey"), encapsulated.get("ciphertext"));
+            long t3 = System.nanoTime();
+            String signature = pqcService.sign(dsaKeys.get("privateKey"), WARMUP_MESSAGE);
+            long t4 = System.nanoTime();
+            boolean valid = pqcService.verify(dsaKeys.get("publicKey"), WARMUP_MESSAGE, signature);
+            long t5 = System.nanoTime();
+
+            if (!valid || !sharedSecret.equals(encapsulated.get("sharedSecret"))) {
+                throw new IllegalStateException("PQC warm-up self-check failed");
+            }
+
+            totals[0] += (t1 - t0) / 2; // KEM + DSA 키 두 개를 생성하므로 키당 시간으로 환산
+            totals[1] += t2 - t1;
+            totals[2] += t3 - t2;
+            totals[3] += t4 - t3;
+            totals[4] += t5 - t4;
+        }
+
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (int i = 0; i < OPERATIONS.size(); i++) {
+            means.put(OPERATIONS.get(i), (double) totals[i] / iterations);
+        }
+        return means;
+    }
+
+    private boolean isStable(Map<String, Double> previous, Map<String, Double> current) {
+        for (String operation : OPERATIONS) {
+            double before = previous.get(operation);
+            double after = current.get(operation);
+            if (before <= 0 || Math.abs(after - before) / before > properties.getTolerance()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.slowlybeen.pqc.warmup;
+
+/**
+ * 현재 스레드가 워밍업 트래픽을 실행 중인지 표시
+ * - 코드 경로는 실제 요청과 동일하게 유지하되, 운영 지표(Micrometer)와 스케줄러 큐/비용 통계에서는 제외
+ * - JFR 이벤트에는 warmup 필드로 구분하여 기록
+ */
+public final class WarmupContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private WarmupContext() {
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    static void enter() {
+        ACTIVE.set(true);
+    }
+
+    static void exit() {
+        ACTIVE.remove();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.slowlybeen.pqc.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업이 끝나기 전까지 OUT_OF_SERVICE 보고 (health / readiness 그룹에 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final CryptoWarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmupRunner.isFinished() ? Health.up() : Health.outOfService();
+        return builder.withDetails(warmupRunner.getStatus()).build();
+    }
+}
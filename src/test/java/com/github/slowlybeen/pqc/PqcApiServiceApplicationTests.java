@@ -9,7 +9,8 @@ import org.springframework.test.context.TestPropertySource;
         "security.allowed-ips=127.0.0.1,0:0:0:0:0:0:0:1",
         "pqc.pool.kem-size=5",
         "pqc.pool.dsa-size=5",
-        "pqc.pool.refill-interval=10000"
+        "pqc.pool.refill-interval=10000",
+        "pqc.warmup.enabled=false"
 })
 class PqcApiServiceApplicationTests {
 
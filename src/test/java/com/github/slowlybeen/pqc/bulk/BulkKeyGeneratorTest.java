@@ -0,0 +1,171 @@
+package com.github.slowlybeen.pqc.bulk;
+
+import com.github.slowlybeen.pqc.dto.BulkKeyFormat;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import com.github.slowlybeen.pqc.engine.KemEncapsulation;
+import com.github.slowlybeen.pqc.engine.PqcCryptoEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 키 생성 파이프라인 테스트
+ * - 레코드 순서/개수, 출력 실패 시 생성 중단, 엔진 실패 전파, 반환 시점에 진행 중인 생성이 없는지 확인
+ */
+class BulkKeyGeneratorTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writesEveryRecordInIndexOrder() throws IOException {
+        CountingEngine engine = new CountingEngine(Long.MAX_VALUE, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new BulkKeyGenerator(executor, PARALLELISM, engine)
+                .generate(PqcType.ML_KEM_768, 1000, new BulkKeyWriter(BulkKeyFormat.NDJSON, out));
+
+        List<String> lines = out.toString(StandardCharsets.US_ASCII).lines().toList();
+        assertEquals(1000, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i).startsWith("{\"index\":" + i + ",\"type\":\"ML_KEM_768\""), lines.get(i));
+        }
+        assertEquals(1000, engine.generated.get());
+        assertEquals(0, engine.inFlight.get());
+    }
+
+    @Test
+    void writerFailureStopsProducers() throws InterruptedException {
+        CountingEngine engine = new CountingEngine(Long.MAX_VALUE, 5);
+        OutputStream brokenPipe = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> new BulkKeyGenerator(executor, PARALLELISM, engine)
+                .generate(PqcType.ML_KEM_768, 1_000_000, new BulkKeyWriter(BulkKeyFormat.NDJSON, brokenPipe)));
+        assertEquals("Broken pipe", e.getMessage());
+
+        // 반환 시점에 진행 중인 키 생성이 없고 이후로도 더 만들지 않음 (생성 작업 종료 후 반환)
+        assertEquals(0, engine.inFlight.get());
+        long generated = engine.generated.get();
+        Thread.sleep(200);
+        assertEquals(generated, engine.generated.get());
+        assertTrue(generated < 1_000_000, "producers ran to completion: " + generated);
+    }
+
+    @Test
+    void engineFailureReachesConsumer() {
+        CountingEngine engine = new CountingEngine(10, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new BulkKeyGenerator(executor, PARALLELISM, engine)
+                .generate(PqcType.ML_DSA_65, 1000, new BulkKeyWriter(BulkKeyFormat.BINARY, out)));
+        assertEquals("engine failure", e.getCause().getMessage());
+        assertEquals(0, engine.inFlight.get());
+    }
+
+    @Test
+    void nothingInFlightAfterEachJob() throws IOException {
+        CountingEngine engine = new CountingEngine(Long.MAX_VALUE, 0);
+
+        // 작업마다 새 생성기를 같은 풀에서 실행 -> 이전 작업의 생성 작업이 남아 있지 않아야 함
+        for (long count = 1; count <= 20; count++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new BulkKeyGenerator(executor, PARALLELISM, engine)
+                    .generate(PqcType.ML_KEM_768, count, new BulkKeyWriter(BulkKeyFormat.NDJSON, out));
+            assertEquals(count, out.toString(StandardCharsets.US_ASCII).lines().count());
+            assertEquals(0, engine.inFlight.get());
+        }
+    }
+
+    /**
+     * 고정 크기 가짜 키를 만드는 엔진
+     * - failAfter개 이후에는 예외, delayMillis만큼 생성 지연 (진행 중인 생성 수는 inFlight)
+     */
+    private static final class CountingEngine implements PqcCryptoEngine {
+        final AtomicLong generated = new AtomicLong();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final long failAfter;
+        final long delayMillis;
+
+        CountingEngine(long failAfter, long delayMillis) {
+            this.failAfter = failAfter;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public String name() {
+            return "counting";
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public GeneratedKeyPair generateKeyPair(PqcType type) {
+            inFlight.incrementAndGet();
+            try {
+                if (generated.incrementAndGet() > failAfter) {
+                    throw new IllegalStateException("engine failure");
+                }
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                return new GeneratedKeyPair(type, new byte[32], new byte[64]);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public KemEncapsulation encapsulate(byte[] publicKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] decapsulate(byte[] privateKey, byte[] encapsulation) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] sign(byte[] privateKey, byte[] message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
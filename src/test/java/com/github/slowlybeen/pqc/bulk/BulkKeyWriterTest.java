@@ -0,0 +1,86 @@
+package com.github.slowlybeen.pqc.bulk;
+
+import com.github.slowlybeen.pqc.dto.BulkKeyFormat;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대량 발급 출력 형식 테스트 (클라이언트가 파싱하는 wire format이므로 바이트 단위로 고정)
+ */
+class BulkKeyWriterTest {
+
+    private static final GeneratedKeyPair FIRST = new GeneratedKeyPair(PqcType.ML_DSA_65,
+            new byte[]{1, 2, 3}, new byte[]{4, 5, 6, 7, 8});
+    private static final GeneratedKeyPair SECOND = new GeneratedKeyPair(PqcType.ML_DSA_65,
+            new byte[]{(byte) 0xff}, new byte[]{(byte) 0xfe, (byte) 0xfd});
+
+    @ParameterizedTest
+    @CsvSource({"ML_KEM_768, 1", "ML_DSA_65, 2"})
+    void binaryHeaderLayout(PqcType type, int typeCode) throws IOException {
+        byte[] expected = ByteBuffer.allocate(14)
+                .put("PQKB".getBytes(StandardCharsets.US_ASCII))
+                .put((byte) 1)                 // version
+                .put((byte) typeCode)
+                .putLong(0x0102030405060708L)  // count (Big-Endian)
+                .array();
+
+        assertArrayEquals(expected, write(BulkKeyFormat.BINARY, type, 0x0102030405060708L));
+    }
+
+    @Test
+    void binaryRecordLayout() throws IOException {
+        byte[] expected = ByteBuffer.allocate(14 + (4 + 3 + 4 + 5) + (4 + 1 + 4 + 2))
+                .put("PQKB".getBytes(StandardCharsets.US_ASCII)).put((byte) 1).put((byte) 2).putLong(2)
+                .putInt(3).put(FIRST.getPublicKey()).putInt(5).put(FIRST.getPrivateKey())
+                .putInt(1).put(SECOND.getPublicKey()).putInt(2).put(SECOND.getPrivateKey())
+                .array();
+
+        assertArrayEquals(expected, write(BulkKeyFormat.BINARY, PqcType.ML_DSA_65, 2, FIRST, SECOND));
+    }
+
+    @Test
+    void ndjsonLayout() throws IOException {
+        String expected = """
+                {"index":0,"type":"ML_DSA_65","publicKey":"AQID","privateKey":"BAUGBwg="}
+                {"index":1,"type":"ML_DSA_65","publicKey":"/w==","privateKey":"/v0="}
+                """;
+
+        // NDJSON은 헤더 없이 레코드당 한 줄
+        assertEquals(expected, new String(write(BulkKeyFormat.NDJSON, PqcType.ML_DSA_65, 2, FIRST, SECOND),
+                StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void nothingReachesStreamUntilFlush() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkKeyWriter writer = new BulkKeyWriter(BulkKeyFormat.NDJSON, out);
+        writer.writeHeader(PqcType.ML_DSA_65, 1);
+        writer.write(0, FIRST);
+        assertEquals(0, out.size());
+
+        writer.flush();
+        assertTrue(out.size() > 0);
+    }
+
+    private static byte[] write(BulkKeyFormat format, PqcType type, long count, GeneratedKeyPair... keyPairs)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkKeyWriter writer = new BulkKeyWriter(format, out);
+        writer.writeHeader(type, count);
+        for (int i = 0; i < keyPairs.length; i++) {
+            writer.write(i, keyPairs[i]);
+        }
+        writer.flush();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.slowlybeen.pqc.engine;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.crypto.CryptoException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * BC <-> JDK 엔진 상호운용 테스트
+ * - JDK 엔진 테스트는 ML-KEM/ML-DSA를 제공하는 JDK(24+)에서만 실행: ./gradlew interopTest
+ * - 기본 test 태스크에서는 JDK 엔진이 없으면 건너뛰고, interopTest(pqc.engine.require-jdk=true)에서는 실패 처리
+ */
+class CryptoEngineInteropTest {
+
+    private static final byte[] MESSAGE = "pqc-engine-interop".getBytes(StandardCharsets.UTF_8);
+
+    private static BouncyCastleEngine bc;
+    private static JdkProviderEngine jdk;
+
+    @BeforeAll
+    static void createEngines() {
+        bc = new BouncyCastleEngine();
+        jdk = new JdkProviderEngine();
+    }
+
+    @Test
+    void bouncyCastleRoundTrip() throws CryptoException {
+        GeneratedKeyPair kem = bc.generateKeyPair(PqcType.ML_KEM_768);
+        KemEncapsulation encapsulated = bc.encapsulate(kem.getPublicKey());
+        assertArrayEquals(encapsulated.getSecret(), bc.decapsulate(kem.getPrivateKey(), encapsulated.getEncapsulation()));
+
+        GeneratedKeyPair dsa = bc.generateKeyPair(PqcType.ML_DSA_65);
+        assertTrue(bc.verify(dsa.getPublicKey(), MESSAGE, bc.sign(dsa.getPrivateKey(), MESSAGE)));
+    }
+
+    @Test
+    void jdkKeysUseRawEncoding() {
+        assumeJdkEngine();
+        assertKeyLengths(jdk.generateKeyPair(PqcType.ML_KEM_768), bc.generateKeyPair(PqcType.ML_KEM_768));
+        assertKeyLengths(jdk.generateKeyPair(PqcType.ML_DSA_65), bc.generateKeyPair(PqcType.ML_DSA_65));
+    }
+
+    @Test
+    void jdkEncapsulationDecapsulatesWithBouncyCastle() {
+        assumeJdkEngine();
+        GeneratedKeyPair kem = bc.generateKeyPair(PqcType.ML_KEM_768);
+        KemEncapsulation encapsulated = jdk.encapsulate(kem.getPublicKey());
+        assertArrayEquals(encapsulated.getSecret(), bc.decapsulate(kem.getPrivateKey(), encapsulated.getEncapsulation()));
+    }
+
+    @Test
+    void bouncyCastleEncapsulationDecapsulatesWithJdk() {
+        assumeJdkEngine();
+        GeneratedKeyPair kem = jdk.generateKeyPair(PqcType.ML_KEM_768);
+        KemEncapsulation encapsulated = bc.encapsulate(kem.getPublicKey());
+        assertArrayEquals(encapsulated.getSecret(), jdk.decapsulate(kem.getPrivateKey(), encapsulated.getEncapsulation()));
+    }
+
+    @Test
+    void jdkSignatureVerifiesWithBouncyCastle() throws CryptoException {
+        assumeJdkEngine();
+        GeneratedKeyPair dsa = bc.generateKeyPair(PqcType.ML_DSA_65);
+        assertTrue(bc.verify(dsa.getPublicKey(), MESSAGE, jdk.sign(dsa.getPrivateKey(), MESSAGE)));
+    }
+
+    @Test
+    void bouncyCastleSignatureVerifiesWithJdk() throws CryptoException {
+        assumeJdkEngine();
+        GeneratedKeyPair dsa = jdk.generateKeyPair(PqcType.ML_DSA_65);
+        assertTrue(jdk.verify(dsa.getPublicKey(), MESSAGE, bc.sign(dsa.getPrivateKey(), MESSAGE)));
+    }
+
+    @Test
+    void tamperedSignatureRejectedByBothEngines() throws CryptoException {
+        assumeJdkEngine();
+        GeneratedKeyPair dsa = bc.generateKeyPair(PqcType.ML_DSA_65);
+        byte[] signature = jdk.sign(dsa.getPrivateKey(), MESSAGE);
+        signature[signature.length / 2] ^= 0x01;
+
+        assertFalse(bc.verify(dsa.getPublicKey(), MESSAGE, signature));
+        assertFalse(jdk.verify(dsa.getPublicKey(), MESSAGE, signature));
+    }
+
+    @Test
+    void rejectedPrivateKeyDoesNotChangeEngineState() throws Exception {
+        assumeJdkEngine();
+        GeneratedKeyPair kem = bc.generateKeyPair(PqcType.ML_KEM_768);
+        GeneratedKeyPair dsa = bc.generateKeyPair(PqcType.ML_DSA_65);
+        KemEncapsulation encapsulated = bc.encapsulate(kem.getPublicKey());
+
+        // 이미 DER로 감싼 OCTET STRING(expandedKey) -> 요청 단위로 거부만 되어야 함
+        byte[] wrappedKem = new DEROctetString(kem.getPrivateKey()).getEncoded();
+        byte[] wrappedDsa = new DEROctetString(dsa.getPrivateKey()).getEncoded();
+        assertThrows(IllegalArgumentException.class, () -> jdk.decapsulate(wrappedKem, encapsulated.getEncapsulation()));
+        assertThrows(IllegalArgumentException.class, () -> jdk.sign(wrappedDsa, MESSAGE));
+
+        // 이후 정상 키는 그대로 처리
+        assertArrayEquals(encapsulated.getSecret(), jdk.decapsulate(kem.getPrivateKey(), encapsulated.getEncapsulation()));
+        assertTrue(bc.verify(dsa.getPublicKey(), MESSAGE, jdk.sign(dsa.getPrivateKey(), MESSAGE)));
+    }
+
+    private static void assumeJdkEngine() {
+        if (Boolean.getBoolean("pqc.engine.require-jdk")) {
+            assertTrue(jdk.isAvailable(), () -> "JDK engine required but not available: " + jdk.getUnavailableReason());
+            return;
+        }
+        assumeTrue(jdk.isAvailable(), () -> "JDK engine not available: " + jdk.getUnavailableReason());
+    }
+
+    private static void assertKeyLengths(GeneratedKeyPair actual, GeneratedKeyPair expected) {
+        assertEquals(expected.getPublicKey().length, actual.getPublicKey().length);
+        assertEquals(expected.getPrivateKey().length, actual.getPrivateKey().length);
+    }
+}
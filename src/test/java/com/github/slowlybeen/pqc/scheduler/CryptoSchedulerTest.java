@@ -0,0 +1,371 @@
+package com.github.slowlybeen.pqc.scheduler;
+
+import com.github.slowlybeen.pqc.config.SchedulerProperties;
+import com.github.slowlybeen.pqc.exception.SchedulerRejectedException;
+import com.github.slowlybeen.pqc.warmup.WarmupTestSupport;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CryptoScheduler 2단계 공정 큐 테스트
+ * - 워커 1개 + 블로킹 작업으로 큐를 채운 뒤 실행 순서, 거절, 지표를 확인
+ * - 클래스: high(weight 3, "hi"), low(weight 1, "lo"), standard(기본, "block")
+ */
+class CryptoSchedulerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+    private MeterRegistry meterRegistry;
+    private CryptoScheduler scheduler;
+
+    @BeforeEach
+    void createRegistry() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    // --- 공정성 ---
+
+    @Test
+    void clientsWithinClassAreServedFairly() throws Exception {
+        start(properties -> { });
+        CountDownLatch release = block();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(submit("10.0.0.1", "hi", "A1"));
+        futures.add(submit("10.0.0.1", "hi", "A2"));
+        futures.add(submit("10.0.0.1", "hi", "A3"));
+        futures.add(submit("10.0.0.2", "hi", "B1"));
+        release.countDown();
+        joinAll(futures);
+
+        assertEquals(List.of("A1", "A2", "A3"), order.stream().filter(label -> label.startsWith("A")).toList());
+        assertTrue(order.indexOf("B1") < order.indexOf("A2"), "B1 must not wait behind A's backlog: " + order);
+    }
+
+    @Test
+    void classesShareByWeight() throws Exception {
+        start(properties -> { });
+        CountDownLatch release = block();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            futures.add(submit("10.0.0.1", "lo", "lo" + i));
+        }
+        for (int i = 1; i <= 4; i++) {
+            futures.add(submit("10.0.0.1", "hi", "hi" + i));
+        }
+        release.countDown();
+        joinAll(futures);
+
+        // high(3) : low(1) -> low 1건마다 high 3건
+        assertEquals(List.of("block", "hi1", "lo1", "hi2", "hi3", "hi4", "lo2", "lo3", "lo4"), order);
+    }
+
+    @Test
+    void inFlightCostIsChargedToNextRequest() throws Exception {
+        start(properties -> { });
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // A의 비싼 작업(10 units)이 실행 중인 동안 A/B가 새 요청을 넣음
+        CompletableFuture<String> expensive = call("10.0.0.1", () -> scheduler.execute("hi", 10, () -> {
+            started.countDown();
+            awaitLatch(release);
+            return "A-expensive";
+        }));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(submit("10.0.0.1", "hi", "A2"));
+        futures.add(submit("10.0.0.2", "hi", "B1"));
+        futures.add(submit("10.0.0.2", "hi", "B2"));
+        futures.add(submit("10.0.0.2", "hi", "B3"));
+        release.countDown();
+        expensive.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        joinAll(futures);
+
+        // 실행 중인 작업의 종료 태그가 유지되므로 A2는 B의 작업 3건(3 units < 10 units) 뒤로 밀림
+        assertEquals(List.of("B1", "B2", "B3", "A2"), order);
+    }
+
+    // --- 일괄 실행 ---
+
+    @Test
+    void executeAllKeepsInputOrderAndRunsInParallel() {
+        start(properties -> properties.setWorkers(2));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<Supplier<String>> works = List.of(
+                () -> meet(barrier, "first"),
+                () -> meet(barrier, "second"));
+
+        // 두 작업이 동시에 실행되어야만 barrier를 통과
+        assertEquals(List.of("first", "second"),
+                assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> scheduler.executeAll("lo", works)));
+    }
+
+    @Test
+    void executeAllTasksAreScheduledIndividually() throws Exception {
+        start(properties -> { });
+        CountDownLatch release = block();
+
+        List<Supplier<String>> works = List.of(work("A1"), work("A2"), work("A3"));
+        CompletableFuture<List<String>> batch = call("10.0.0.1", () -> scheduler.executeAll("lo", works));
+        awaitQueued(3);
+        CompletableFuture<String> single = submit("10.0.0.2", "lo", "B1");
+        release.countDown();
+
+        assertEquals(List.of("A1", "A2", "A3"), batch.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        single.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(order.indexOf("B1") < order.indexOf("A2"), "single request must interleave with batch: " + order);
+    }
+
+    @Test
+    void executeAllRethrowsFirstFailure() {
+        start(properties -> { });
+        List<Supplier<String>> works = List.of(
+                work("ok"),
+                () -> {
+                    throw new IllegalArgumentException("bad recipient");
+                },
+                work("after"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> scheduler.executeAll("lo", works));
+        assertEquals("bad recipient", e.getMessage());
+    }
+
+    // --- 거절 ---
+
+    @Test
+    void fullQueueIsRejected() throws Exception {
+        start(properties -> properties.setMaxQueueDepth(2));
+        CountDownLatch release = block();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(submit("10.0.0.1", "hi", "A1"));
+        futures.add(submit("10.0.0.2", "hi", "B1"));
+
+        assertThrows(SchedulerRejectedException.class, () -> scheduler.execute("hi", () -> "C1"));
+        assertThrows(SchedulerRejectedException.class, () -> scheduler.executeAll("lo", List.of(work("D1"), work("D2"))));
+        assertEquals(2, queueDepth());
+        assertEquals(1, rejected("high"));
+        assertEquals(1, rejected("low"));
+
+        release.countDown();
+        joinAll(futures);
+        assertFalse(order.contains("C1"));
+        assertFalse(order.contains("D1"));
+        assertEquals(0, queueDepth());
+    }
+
+    @Test
+    void workWaitingLongerThanMaxWaitIsRejected() throws Exception {
+        start(properties -> properties.setMaxWait(Duration.ofMillis(50)));
+        CountDownLatch release = block();
+
+        AtomicBoolean ran = new AtomicBoolean();
+        CompletableFuture<String> stale = submit("10.0.0.1", "hi", 1, () -> {
+            ran.set(true);
+            return "stale";
+        });
+        Thread.sleep(200);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> stale.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(SchedulerRejectedException.class, e.getCause());
+        assertFalse(ran.get());
+        assertEquals(1, rejected("high"));
+        assertEquals(1, meterRegistry.get("pqc.scheduler.wait").tag("class", "high").timer().count());
+    }
+
+    // --- 바로 실행 (큐 우회) ---
+
+    @Test
+    void runsInlineWhenNotStarted() {
+        scheduler = new CryptoScheduler(properties(properties -> { }), meterRegistry);
+        assertSame(Thread.currentThread(), scheduler.execute("hi", Thread::currentThread));
+    }
+
+    @Test
+    void runsInlineWhenDisabled() {
+        start(properties -> properties.setEnabled(false));
+        assertSame(Thread.currentThread(), scheduler.execute("hi", Thread::currentThread));
+        assertEquals(List.of(Thread.currentThread()), scheduler.executeAll("lo", List.of(Thread::currentThread)));
+    }
+
+    @Test
+    void nestedCallRunsOnSameWorker() {
+        start(properties -> { });
+        // 워커가 1개뿐이므로 중첩 호출을 큐에 넣으면 교착 상태
+        boolean sameThread = assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () ->
+                scheduler.execute("hi", () -> {
+                    Thread worker = Thread.currentThread();
+                    return scheduler.execute("lo", Thread::currentThread) == worker
+                            && scheduler.executeAll("lo", List.of(Thread::currentThread)).get(0) == worker;
+                }));
+        assertTrue(sameThread);
+        assertEquals(0, meterRegistry.get("pqc.scheduler.wait").tag("class", "low").timer().count());
+    }
+
+    @Test
+    void warmupTrafficRunsInline() {
+        start(properties -> { });
+        assertSame(Thread.currentThread(),
+                WarmupTestSupport.during(() -> scheduler.execute("hi", Thread::currentThread)));
+        assertEquals(0, meterRegistry.get("pqc.scheduler.wait").tag("class", "high").timer().count());
+    }
+
+    // --- helpers ---
+
+    private SchedulerProperties properties(Consumer<SchedulerProperties> customizer) {
+        SchedulerProperties properties = new SchedulerProperties();
+        properties.setWorkers(1);
+        properties.setMaxWait(Duration.ZERO);
+        properties.getClasses().put("high", priorityClass(3, "hi"));
+        properties.getClasses().put("low", priorityClass(1, "lo"));
+        customizer.accept(properties);
+        return properties;
+    }
+
+    private void start(Consumer<SchedulerProperties> customizer) {
+        scheduler = new CryptoScheduler(properties(customizer), meterRegistry);
+        scheduler.start();
+    }
+
+    private static SchedulerProperties.PriorityClass priorityClass(int weight, String operation) {
+        SchedulerProperties.PriorityClass priorityClass = new SchedulerProperties.PriorityClass();
+        priorityClass.setWeight(weight);
+        priorityClass.setOperations(List.of(operation));
+        return priorityClass;
+    }
+
+    /**
+     * 유일한 워커를 점유하는 작업 -> 반환된 latch를 내릴 때까지 이후 작업은 모두 큐에 쌓임
+     */
+    private CountDownLatch block() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        call("10.0.0.99", () -> scheduler.execute("block", () -> {
+            order.add("block");
+            started.countDown();
+            awaitLatch(release);
+            return "block";
+        }));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private CompletableFuture<String> submit(String clientAddr, String operation, String label) throws InterruptedException {
+        return submit(clientAddr, operation, 1, work(label));
+    }
+
+    /**
+     * 클라이언트 주소를 가진 요청 스레드에서 execute 호출 -> 큐에 들어갈 때까지 대기하여 적재 순서를 고정
+     */
+    private CompletableFuture<String> submit(String clientAddr, String operation, int units, Supplier<String> work)
+            throws InterruptedException {
+        int queued = queueDepth();
+        CompletableFuture<String> future = call(clientAddr, () -> scheduler.execute(operation, units, work));
+        awaitQueuedOrDone(queued + 1, future);
+        return future;
+    }
+
+    private <T> CompletableFuture<T> call(String clientAddr, Supplier<T> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+            servletRequest.setRemoteAddr(clientAddr);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+            try {
+                return request.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }, callers);
+    }
+
+    private Supplier<String> work(String label) {
+        return () -> {
+            order.add(label);
+            return label;
+        };
+    }
+
+    private void awaitQueued(int depth) throws InterruptedException {
+        awaitQueuedOrDone(depth, null);
+    }
+
+    private void awaitQueuedOrDone(int depth, CompletableFuture<?> future) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (queueDepth() < depth && (future == null || !future.isDone())) {
+            assertTrue(System.nanoTime() < deadline, "work was not queued in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private int queueDepth() {
+        return (int) meterRegistry.find("pqc.scheduler.queue.depth").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    private double rejected(String className) {
+        return meterRegistry.get("pqc.scheduler.rejected").tag("class", className).counter().count();
+    }
+
+    private static void joinAll(List<? extends CompletableFuture<?>> futures) throws Exception {
+        for (CompletableFuture<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String meet(CyclicBarrier barrier, String label) {
+        try {
+            barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return label;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.slowlybeen.pqc.service;
+
+import com.github.slowlybeen.pqc.dto.AeadAlgorithm;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하이브리드 암호문 형식 테스트 (인메모리 채널로 encrypt/decrypt)
+ */
+class HybridEncryptionServiceTest {
+
+    private static final int CHUNK_SIZE = HybridEncryptionService.MIN_CHUNK_SIZE;
+    private static final int TAG_LENGTH = 16;
+    private static final int SALT_LENGTH = 32;
+    private static final int FIXED_HEADER_LENGTH = 4 + 1 + 1 + 4 + 2; // magic | version | aeadId | chunkSize | kemCtLen
+
+    private static HybridEncryptionService service;
+    private static GeneratedKeyPair kemKeys;
+
+    @BeforeAll
+    static void createService() {
+        PqcServiceFixture fixture = new PqcServiceFixture();
+        service = new HybridEncryptionService(fixture.service(), fixture.meterRegistry());
+        kemKeys = fixture.generateKeyPair(PqcType.ML_KEM_768);
+    }
+
+    static Stream<Arguments> payloadSizes() {
+        return Stream.of(AeadAlgorithm.values()).flatMap(aead -> Stream.of(0, 1, CHUNK_SIZE, 3 * CHUNK_SIZE + 7)
+                .map(size -> Arguments.of(aead, size)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloadSizes")
+    void roundTrip(AeadAlgorithm aead, int size) throws Exception {
+        byte[] plaintext = randomBytes(size);
+        byte[] ciphertext = encrypt(aead, plaintext);
+
+        int chunks = Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE); // 빈 평문도 태그만 있는 마지막 청크 1개
+        assertEquals(headerLength(ciphertext) + size + (long) chunks * TAG_LENGTH, ciphertext.length);
+        assertArrayEquals(plaintext, decrypt(ciphertext));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AeadAlgorithm.class)
+    void droppedFinalChunkIsRejected(AeadAlgorithm aead) throws Exception {
+        byte[] ciphertext = encrypt(aead, randomBytes(3 * CHUNK_SIZE + 7));
+        assertRejected(Arrays.copyOf(ciphertext, ciphertext.length - (7 + TAG_LENGTH)));
+
+        // 청크 크기의 배수여서 마지막 청크도 가득 찬 경우
+        byte[] exact = encrypt(aead, randomBytes(2 * CHUNK_SIZE));
+        assertRejected(Arrays.copyOf(exact, exact.length - (CHUNK_SIZE + TAG_LENGTH)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AeadAlgorithm.class)
+    void swappedChunksAreRejected(AeadAlgorithm aead) throws Exception {
+        byte[] ciphertext = encrypt(aead, randomBytes(3 * CHUNK_SIZE + 7));
+        int frame = CHUNK_SIZE + TAG_LENGTH;
+        int first = headerLength(ciphertext);
+
+        byte[] swapped = ciphertext.clone();
+        System.arraycopy(ciphertext, first, swapped, first + frame, frame);
+        System.arraycopy(ciphertext, first + frame, swapped, first, frame);
+        assertRejected(swapped);
+    }
+
+    @ParameterizedTest
+    @EnumSource(AeadAlgorithm.class)
+    void appendedDataIsRejected(AeadAlgorithm aead) throws Exception {
+        byte[] ciphertext = encrypt(aead, randomBytes(CHUNK_SIZE + 7));
+        assertRejected(concat(ciphertext, new byte[]{0}));
+        assertRejected(concat(ciphertext, Arrays.copyOfRange(ciphertext, headerLength(ciphertext), ciphertext.length)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AeadAlgorithm.class)
+    void flippedHeaderByteIsRejected(AeadAlgorithm aead) throws Exception {
+        byte[] ciphertext = encrypt(aead, randomBytes(CHUNK_SIZE + 7));
+        int headerLength = headerLength(ciphertext);
+
+        // magic, version, aeadId, chunkSize, KEM 암호문 길이, KEM 암호문, salt 각 구간의 바이트
+        int[] positions = {0, 4, 5, 8, 11, FIXED_HEADER_LENGTH, headerLength - SALT_LENGTH - 1, headerLength - 1};
+        for (int position : positions) {
+            byte[] tampered = ciphertext.clone();
+            tampered[position] ^= 0x01;
+            assertRejected(tampered);
+        }
+    }
+
+    private static byte[] encrypt(AeadAlgorithm aead, byte[] plaintext) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.encrypt(kemKeys.getPublicKey(), aead, CHUNK_SIZE,
+                Channels.newChannel(new ByteArrayInputStream(plaintext)), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static byte[] decrypt(byte[] ciphertext) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.decrypt(kemKeys.getPrivateKey(),
+                Channels.newChannel(new ByteArrayInputStream(ciphertext)), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static void assertRejected(byte[] ciphertext) {
+        Exception e = assertThrows(Exception.class, () -> decrypt(ciphertext));
+        assertTrue(e instanceof GeneralSecurityException || e instanceof IllegalArgumentException,
+                () -> "unexpected exception: " + e);
+    }
+
+    private static int headerLength(byte[] ciphertext) {
+        int kemCiphertextLength = ((ciphertext[FIXED_HEADER_LENGTH - 2] & 0xff) << 8) | (ciphertext[FIXED_HEADER_LENGTH - 1] & 0xff);
+        return FIXED_HEADER_LENGTH + kemCiphertextLength + SALT_LENGTH;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new SecureRandom().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.slowlybeen.pqc.service;
+
+import com.github.slowlybeen.pqc.dto.PqcType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Merkle 배치 서명 테스트 (트리 증명 + PqcCryptoService.signBatch/verifyBatch)
+ */
+class MerkleBatchSigningTest {
+
+    private static MeterRegistry meterRegistry;
+    private static PqcCryptoService service;
+    private static Map<String, String> dsaKeys;
+
+    @BeforeAll
+    static void createService() {
+        PqcServiceFixture fixture = new PqcServiceFixture();
+        meterRegistry = fixture.meterRegistry();
+        service = fixture.service();
+        dsaKeys = fixture.generateKeyPair(PqcType.ML_DSA_65).toBase64Map();
+    }
+
+    // --- MerkleTree ---
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 9})
+    void proofRoundTripsForEveryIndex(int size) {
+        byte[][] leaves = leaves(size);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        for (int i = 0; i < size; i++) {
+            List<byte[]> proof = tree.proof(i);
+            assertTrue(proof.size() <= 32 - Integer.numberOfLeadingZeros(size - 1), "proof too long at " + i);
+            assertArrayEquals(tree.root(), MerkleTree.computeRoot(leaves[i], i, size, proof), "index " + i);
+        }
+    }
+
+    @Test
+    void wrongIndexIsRejected() {
+        byte[][] leaves = leaves(5);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        assertNotRoot(tree, MerkleTree.computeRoot(leaves[1], 2, 5, tree.proof(1)));
+        assertNotRoot(tree, MerkleTree.computeRoot(leaves[1], 0, 5, tree.proof(1)));
+        assertNull(MerkleTree.computeRoot(leaves[4], 5, 5, tree.proof(4)));
+        assertNull(MerkleTree.computeRoot(leaves[0], -1, 5, tree.proof(0)));
+    }
+
+    @Test
+    void wrongTreeSizeIsRejected() {
+        byte[][] leaves = leaves(5);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        // 마지막 리프는 승격 경로라 증명이 짧음 -> 다른 크기의 트리 모양과 맞지 않음
+        assertNull(MerkleTree.computeRoot(leaves[4], 4, 8, tree.proof(4)));
+        assertNotRoot(tree, MerkleTree.computeRoot(leaves[2], 2, 3, tree.proof(2)));
+        assertNull(MerkleTree.computeRoot(leaves[0], 0, 0, tree.proof(0)));
+    }
+
+    @Test
+    void extraOrMissingProofElementIsRejected() {
+        byte[][] leaves = leaves(9);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        for (int i = 0; i < 9; i++) {
+            List<byte[]> extra = new ArrayList<>(tree.proof(i));
+            extra.add(leaves[0]);
+            assertNull(MerkleTree.computeRoot(leaves[i], i, 9, extra), "extra element at " + i);
+
+            List<byte[]> missing = new ArrayList<>(tree.proof(i));
+            missing.remove(missing.size() - 1);
+            assertNull(MerkleTree.computeRoot(leaves[i], i, 9, missing), "missing element at " + i);
+        }
+    }
+
+    @Test
+    void tamperedMessageIsRejected() {
+        byte[][] leaves = leaves(8);
+        MerkleTree tree = new MerkleTree(leaves);
+
+        byte[] tampered = MerkleTree.leafHash("message-3!".getBytes(StandardCharsets.UTF_8));
+        assertNotRoot(tree, MerkleTree.computeRoot(tampered, 3, 8, tree.proof(3)));
+    }
+
+    @Test
+    void leafAndNodeHashesAreDomainSeparated() {
+        byte[] left = MerkleTree.leafHash(new byte[]{1});
+        byte[] right = MerkleTree.leafHash(new byte[]{2});
+        byte[] concatenated = new byte[left.length + right.length];
+        System.arraycopy(left, 0, concatenated, 0, left.length);
+        System.arraycopy(right, 0, concatenated, left.length, right.length);
+
+        assertFalse(Arrays.equals(MerkleTree.nodeHash(left, right), MerkleTree.leafHash(concatenated)));
+    }
+
+    // --- signBatch / verifyBatch ---
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 9})
+    void signedBatchVerifiesForEveryIndex(int size) {
+        List<String> messages = messages(size);
+        Map<String, Object> batch = service.signBatch(dsaKeys.get("privateKey"), messages);
+
+        for (int i = 0; i < size; i++) {
+            assertTrue(verify(batch, messages.get(i), i, size, proofOf(batch, i)), "index " + i);
+        }
+    }
+
+    @Test
+    void verifyBatchRejectsTampering() {
+        List<String> messages = messages(5);
+        Map<String, Object> batch = service.signBatch(dsaKeys.get("privateKey"), messages);
+
+        assertFalse(verify(batch, messages.get(1), 2, 5, proofOf(batch, 1)), "wrong index");
+        assertFalse(verify(batch, messages.get(1), 1, 6, proofOf(batch, 1)), "wrong treeSize");
+        assertFalse(verify(batch, "message-1!", 1, 5, proofOf(batch, 1)), "tampered message");
+
+        List<String> extra = new ArrayList<>(proofOf(batch, 1));
+        extra.add(extra.get(0));
+        assertFalse(verify(batch, messages.get(1), 1, 5, extra), "extra proof element");
+
+        List<String> missing = new ArrayList<>(proofOf(batch, 1));
+        missing.remove(0);
+        assertFalse(verify(batch, messages.get(1), 1, 5, missing), "missing proof element");
+    }
+
+    @Test
+    void verifiedRootIsServedFromCache() {
+        List<String> messages = messages(3);
+        Map<String, Object> batch = service.signBatch(dsaKeys.get("privateKey"), messages);
+        double hitsBefore = rootCacheCount("hit");
+        double missesBefore = rootCacheCount("miss");
+
+        assertTrue(verify(batch, messages.get(0), 0, 3, proofOf(batch, 0)));
+        assertTrue(verify(batch, messages.get(2), 2, 3, proofOf(batch, 2)));
+
+        assertEquals(missesBefore + 1, rootCacheCount("miss"));
+        assertEquals(hitsBefore + 1, rootCacheCount("hit"));
+
+        // 캐시된 루트라도 다른 공개키로는 적중하지 않음
+        Map<String, String> otherKeys = service.generateKeys(PqcType.ML_DSA_65);
+        assertFalse(service.verifyBatch(otherKeys.get("publicKey"), messages.get(1), 1, 3,
+                proofOf(batch, 1), (String) batch.get("signature")));
+    }
+
+    private static boolean verify(Map<String, Object> batch, String message, int index, int treeSize, List<String> proof) {
+        return service.verifyBatch(dsaKeys.get("publicKey"), message, index, treeSize, proof, (String) batch.get("signature"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> proofOf(Map<String, Object> batch, int index) {
+        List<Map<String, Object>> proofs = (List<Map<String, Object>>) batch.get("proofs");
+        return (List<String>) proofs.get(index).get("proof");
+    }
+
+    private static double rootCacheCount(String result) {
+        return meterRegistry.get("pqc.merkle.root.cache").tag("result", result).counter().count();
+    }
+
+    private static List<String> messages(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "message-" + i).toList();
+    }
+
+    private static byte[][] leaves(int size) {
+        return messages(size).stream()
+                .map(m -> MerkleTree.leafHash(m.getBytes(StandardCharsets.UTF_8)))
+                .toArray(byte[][]::new);
+    }
+
+    private static void assertNotRoot(MerkleTree tree, byte[] computed) {
+        assertFalse(computed != null && Arrays.equals(tree.root(), computed));
+    }
+}
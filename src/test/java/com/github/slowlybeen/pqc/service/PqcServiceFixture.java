@@ -0,0 +1,41 @@
+package com.github.slowlybeen.pqc.service;
+
+import com.github.slowlybeen.pqc.config.EngineProperties;
+import com.github.slowlybeen.pqc.config.SchedulerProperties;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.engine.CryptoEngineRegistry;
+import com.github.slowlybeen.pqc.engine.CryptoOperation;
+import com.github.slowlybeen.pqc.engine.GeneratedKeyPair;
+import com.github.slowlybeen.pqc.pool.KeyPool;
+import com.github.slowlybeen.pqc.scheduler.CryptoScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Spring 컨텍스트 없이 조립한 PqcCryptoService (서비스 생성자가 바뀌면 여기만 수정)
+ * - 스케줄러는 start()를 호출하지 않으므로 호출 스레드에서 바로 실행
+ */
+public final class PqcServiceFixture {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CryptoEngineRegistry engines = new CryptoEngineRegistry(new EngineProperties());
+    private final KeyPool keyPool = new KeyPool(engines);
+    private final PqcCryptoService service = new PqcCryptoService(keyPool, engines, new VerifiedRootCache(100),
+            new CryptoScheduler(new SchedulerProperties(), meterRegistry), meterRegistry);
+
+    public MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    public KeyPool keyPool() {
+        return keyPool;
+    }
+
+    public PqcCryptoService service() {
+        return service;
+    }
+
+    public GeneratedKeyPair generateKeyPair(PqcType type) {
+        return engines.engineFor(CryptoOperation.KEYGEN).generateKeyPair(type);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.slowlybeen.pqc.warmup;
+
+import com.github.slowlybeen.pqc.config.WarmupProperties;
+import com.github.slowlybeen.pqc.dto.PqcType;
+import com.github.slowlybeen.pqc.service.PqcCryptoService;
+import com.github.slowlybeen.pqc.service.PqcServiceFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 워밍업 readiness 테스트
+ * - 워밍업이 끝나기 전에는 OUT_OF_SERVICE, COMPLETED/FAILED/DISABLED 이후에는 UP
+ */
+class CryptoWarmupRunnerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void readinessIsOutOfServiceUntilWarmupCompletes() throws InterruptedException {
+        PqcServiceFixture fixture = new PqcServiceFixture();
+        CryptoWarmupRunner runner = new CryptoWarmupRunner(fixture.service(), fixture.keyPool(),
+                properties(true), fixture.meterRegistry());
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(runner);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+        assertEquals(CryptoWarmupRunner.State.PENDING, indicator.health().getDetails().get("state"));
+
+        runner.onApplicationReady();
+        awaitFinished(runner);
+
+        Health health = indicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(CryptoWarmupRunner.State.COMPLETED, health.getDetails().get("state"));
+        assertEquals(1, health.getDetails().get("rounds"));
+
+        // 워밍업 트래픽은 운영 지표에 기록되지 않음
+        assertEquals(0, fixture.meterRegistry().get("pqc.operation.duration")
+                .tag("operation", "keygen").timer().count());
+    }
+
+    @Test
+    void readinessIsUpAfterWarmupFails() throws InterruptedException {
+        PqcServiceFixture fixture = new PqcServiceFixture();
+        PqcCryptoService failing = mock(PqcCryptoService.class);
+        when(failing.generateKeys(any(PqcType.class))).thenThrow(new IllegalStateException("engine unavailable"));
+        CryptoWarmupRunner runner = new CryptoWarmupRunner(failing, fixture.keyPool(),
+                properties(true), new SimpleMeterRegistry());
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(runner);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        runner.onApplicationReady();
+        awaitFinished(runner);
+
+        // 실패해도 OUT_OF_SERVICE에 머무르지 않고 콜드 상태로 트래픽 수신
+        Health health = indicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(CryptoWarmupRunner.State.FAILED, health.getDetails().get("state"));
+        assertEquals("IllegalStateException", health.getDetails().get("error"));
+    }
+
+    @Test
+    void readinessIsUpImmediatelyWhenDisabled() {
+        PqcServiceFixture fixture = new PqcServiceFixture();
+        CryptoWarmupRunner runner = new CryptoWarmupRunner(fixture.service(), fixture.keyPool(),
+                properties(false), fixture.meterRegistry());
+
+        runner.onApplicationReady();
+
+        Health health = new WarmupHealthIndicator(runner).health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(CryptoWarmupRunner.State.DISABLED, health.getDetails().get("state"));
+    }
+
+    private static WarmupProperties properties(boolean enabled) {
+        WarmupProperties properties = new WarmupProperties();
+        properties.setEnabled(enabled);
+        properties.setIterationsPerRound(1);
+        properties.setMaxRounds(1);
+        return properties;
+    }
+
+    private static void awaitFinished(CryptoWarmupRunner runner) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!runner.isFinished()) {
+            assertTrue(System.nanoTime() < deadline, "warm-up did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.slowlybeen.pqc.warmup;
+
+import java.util.function.Supplier;
+
+/**
+ * 테스트에서 워밍업 트래픽을 흉내내기 위한 도우미 (WarmupContext.enter/exit는 패키지 전용)
+ */
+public final class WarmupTestSupport {
+
+    private WarmupTestSupport() {
+    }
+
+    public static <T> T during(Supplier<T> work) {
+        WarmupContext.enter();
+        try {
+            return work.get();
+        } finally {
+            WarmupContext.exit();
+        }
+    }
+}